@@ -0,0 +1,25 @@
+package org.enso.interpreter.bench.benchmarks.semantic;
+
+import org.enso.interpreter.bench.fixtures.semantic.ArithmeticFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArithmeticBenchmarks {
+  private static ArithmeticFixtures fixtures = new ArithmeticFixtures();
+
+  @Benchmark
+  public void benchPolynomialHash() {
+    fixtures.polynomialHash().execute(fixtures.hundredMillion());
+  }
+
+  @Benchmark
+  public void benchSumOverflowing() {
+    fixtures.sumOverflowing().execute(fixtures.million());
+  }
+}
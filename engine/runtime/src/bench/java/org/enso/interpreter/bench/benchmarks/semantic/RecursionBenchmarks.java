@@ -18,6 +18,16 @@ public class RecursionBenchmarks {
     recursionFixtures.sumTCO().execute(recursionFixtures.hundredMillion());
   }
 
+  @Benchmark
+  public void benchSumTCOMillion() {
+    recursionFixtures.sumTCO().execute(recursionFixtures.million());
+  }
+
+  @Benchmark
+  public void benchSumTCOMutual() {
+    recursionFixtures.sumTCOMutual().execute(recursionFixtures.million());
+  }
+
   @Benchmark
   public void benchSumTCOWithEval() {
     recursionFixtures.sumTCOWithEval().execute(recursionFixtures.hundredMillion());
@@ -0,0 +1,30 @@
+package org.enso.interpreter.bench.fixtures.semantic
+
+import org.enso.interpreter.test.InterpreterRunner
+
+class ArithmeticFixtures extends InterpreterRunner {
+  val hundredMillion: Long = 100000000
+  val million: Long        = 1000000
+
+  val polynomialHashCode =
+    """
+      |{ |n|
+      |  hasher = { |acc, i| @ifZero [i, acc, @hasher [((acc * 31) + i) % 1000003, i - 1]] };
+      |  res = @hasher [0, n];
+      |  res
+      |}
+      |""".stripMargin
+
+  val polynomialHash = evalOld(polynomialHashCode)
+
+  val sumOverflowingCode =
+    """
+      |{ |n|
+      |  summator = { |acc, i| @ifZero [i, acc, @summator [acc + i, i - 1]] };
+      |  res = @summator [9223372036854775807, n];
+      |  res - 9223372036854775807
+      |}
+      |""".stripMargin
+
+  val sumOverflowing = evalOld(sumOverflowingCode)
+}
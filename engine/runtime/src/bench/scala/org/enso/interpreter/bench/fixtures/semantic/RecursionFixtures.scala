@@ -95,4 +95,13 @@ class RecursionFixtures extends InterpreterRunner {
       |}
       |""".stripMargin
   val sumTCOWithEval = evalOld(sumTCOWithEvalCode)
+
+  val sumTCOMutualCode =
+    """
+      |Unit.sumEven = { |acc, i| @ifZero [i, acc, @sumOdd [@Unit, acc + i, i - 1]] }
+      |Unit.sumOdd = { |acc, i| @ifZero [i, acc, @sumEven [@Unit, acc + i, i - 1]] }
+      |
+      |{ |sumTo| @sumEven [@Unit, 0, sumTo] }
+      |""".stripMargin
+  val sumTCOMutual = evalOld(sumTCOMutualCode)
 }
@@ -19,6 +19,8 @@ public class Constants {
     public static final String FUNCTION_INTEROP_LIBRARY = "10";
     public static final String THUNK_EXECUTOR_NODE = "10";
     public static final String EVAL_NODE = "10";
+    public static final String MATCH_NODE = "10";
+    public static final String METHOD_RESOLVER_NODE = "10";
   }
 
   /** Constants used for debugging only. */
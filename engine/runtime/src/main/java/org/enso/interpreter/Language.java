@@ -64,16 +64,29 @@ public final class Language extends TruffleLanguage<Context> {
     return false;
   }
 
+  /**
+   * Disposes of an Enso context, stopping the threads it created.
+   *
+   * @param context the context to dispose of
+   */
+  @Override
+  protected void disposeContext(Context context) {
+    context.shutdown();
+  }
+
   /**
    * Checks if this Enso execution environment is accessible in a multithreaded context.
    *
+   * <p>Enso code may be executed by any number of threads at once. See Note [Concurrent Scopes] in
+   * {@link ModuleScope} for how the shared state of the runtime is kept consistent.
+   *
    * @param thread the thread to check access for
    * @param singleThreaded whether or not execution is single threaded
-   * @return whether or not thread access is allowed
+   * @return {@code true}
    */
   @Override
   protected boolean isThreadAccessAllowed(Thread thread, boolean singleThreaded) {
-    return super.isThreadAccessAllowed(thread, singleThreaded);
+    return true;
   }
 
   /**
@@ -1,6 +1,7 @@
 package org.enso.interpreter.builder;
 
 import com.oracle.truffle.api.Truffle;
+import org.enso.compiler.analyse.StrictnessAnalysis;
 import org.enso.interpreter.AstCallArgVisitor;
 import org.enso.interpreter.AstExpression;
 import org.enso.interpreter.Language;
@@ -15,6 +16,10 @@ import java.util.Optional;
 /**
  * A {@code CallArgFactory} is responsible for converting arguments passed to a function call into
  * runtime nodes used by the interpreter to guide function evaluation.
+ *
+ * <p>Arguments that {@link StrictnessAnalysis} deems safe to evaluate eagerly are compiled into
+ * nodes executed in the caller's frame. All the other arguments are compiled into separate call
+ * targets, so that they can be passed to the callee as thunks.
  */
 public class CallArgFactory implements AstCallArgVisitor<CallArgument> {
 
@@ -52,6 +57,10 @@ public class CallArgFactory implements AstCallArgVisitor<CallArgument> {
    */
   @Override
   public CallArgument visitCallArg(Optional<String> name, AstExpression value, int position) {
+    if (StrictnessAnalysis.canEvaluateEagerly(value)) {
+      ExpressionFactory factory = new ExpressionFactory(language, scope, scopeName, moduleScope);
+      return new CallArgument(name.orElse(null), value.visit(factory));
+    }
     LocalScope childScope = new LocalScope(scope);
     ExpressionFactory factory = new ExpressionFactory(language, childScope, scopeName, moduleScope);
     ExpressionNode expr = value.visit(factory);
@@ -4,6 +4,7 @@ import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.frame.FrameSlot;
 import com.oracle.truffle.api.nodes.RootNode;
+import org.enso.compiler.analyse.LambdaLifting;
 import org.enso.interpreter.*;
 import org.enso.interpreter.node.ClosureRootNode;
 import org.enso.interpreter.node.ExpressionNode;
@@ -13,19 +14,28 @@ import org.enso.interpreter.node.callable.InvokeCallableNode;
 import org.enso.interpreter.node.callable.argument.ReadArgumentNode;
 import org.enso.interpreter.node.callable.function.CreateFunctionNode;
 import org.enso.interpreter.node.callable.function.BlockNode;
+import org.enso.interpreter.node.callable.function.LazyBodyNode;
 import org.enso.interpreter.node.controlflow.*;
 import org.enso.interpreter.node.expression.constant.ConstructorNode;
 import org.enso.interpreter.node.expression.constant.DynamicSymbolNode;
+import org.enso.interpreter.node.expression.intrinsic.GetStateIntrinsicNode;
+import org.enso.interpreter.node.expression.intrinsic.IfZeroIntrinsicNode;
+import org.enso.interpreter.node.expression.intrinsic.PanicIntrinsicNode;
+import org.enso.interpreter.node.expression.intrinsic.PutStateIntrinsicNode;
+import org.enso.interpreter.node.expression.literal.DoubleLiteralNode;
 import org.enso.interpreter.node.expression.literal.IntegerLiteralNode;
 import org.enso.interpreter.node.expression.literal.StringLiteralNode;
 import org.enso.interpreter.node.expression.operator.*;
 import org.enso.interpreter.node.scope.AssignmentNode;
 import org.enso.interpreter.node.scope.AssignmentNodeGen;
 import org.enso.interpreter.node.scope.ReadLocalTargetNodeGen;
+import org.enso.interpreter.runtime.RuntimeOptions;
 import org.enso.interpreter.runtime.callable.UnresolvedSymbol;
+import org.enso.interpreter.runtime.callable.atom.AtomConstructor;
 import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
 import org.enso.interpreter.runtime.callable.argument.CallArgument;
 import org.enso.interpreter.runtime.error.DuplicateArgumentNameException;
+import org.enso.interpreter.runtime.scope.FramePointer;
 import org.enso.interpreter.runtime.scope.LocalScope;
 import org.enso.interpreter.runtime.scope.ModuleScope;
 
@@ -45,6 +55,7 @@ public class ExpressionFactory implements AstExpressionVisitor<ExpressionNode> {
   private final String scopeName;
   private final ModuleScope moduleScope;
   private String currentVarName = "annonymous";
+  private String selfBindingName = null;
 
   /**
    * Explicitly specifies all contructor parameters.
@@ -96,6 +107,22 @@ public class ExpressionFactory implements AstExpressionVisitor<ExpressionNode> {
     return new ExpressionFactory(language, scope.createChild(), name, this.moduleScope);
   }
 
+  /**
+   * Creates a child of this {@code ExpressionFactory} for processing a local function.
+   *
+   * <p>The local scope of this child is nested in a closure environment, that captures the
+   * variables the function uses from the local scope contained within {@code this}. See Note
+   * [Closure Environments].
+   *
+   * @param name the name of the new scope
+   * @param selfName the name of the variable the function is directly assigned to, or {@code null}
+   * @return a child of this current expression factory
+   */
+  public ExpressionFactory createClosureChild(String name, String selfName) {
+    LocalScope childScope = scope.createEnvironment(selfName).createChild();
+    return new ExpressionFactory(language, childScope, name, this.moduleScope);
+  }
+
   /**
    * Creates an executable expression from an AST expression.
    *
@@ -119,6 +146,17 @@ public class ExpressionFactory implements AstExpressionVisitor<ExpressionNode> {
     return new IntegerLiteralNode(l);
   }
 
+  /**
+   * Creates a runtime {@code double} value from an AST node.
+   *
+   * @param d the value to represent
+   * @return a runtime node representing that value
+   */
+  @Override
+  public ExpressionNode visitDouble(double d) {
+    return new DoubleLiteralNode(d);
+  }
+
   /**
    * Creates a runtime String literal value from an AST node.
    *
@@ -209,6 +247,27 @@ public class ExpressionFactory implements AstExpressionVisitor<ExpressionNode> {
    */
   public CreateFunctionNode processFunctionBody(
       List<AstArgDefinition> arguments, AstExpression body) {
+    return processFunctionBody(arguments, body, false);
+  }
+
+  /**
+   * Creates a runtime node representing the body of a method, deferring the creation of the nodes
+   * of the body until the method is first called. See Note [Lazy Method Bodies].
+   *
+   * <p>This must only be used for functions defined at the top level of a module, as the body of a
+   * function nested in another one has to be processed before the enclosing scope is sealed.
+   *
+   * @param arguments the arguments the method is defined for
+   * @param body the body of the method
+   * @return a runtime node representing the method body
+   */
+  public CreateFunctionNode processMethodBody(
+      List<AstArgDefinition> arguments, AstExpression body) {
+    return processFunctionBody(arguments, body, true);
+  }
+
+  private CreateFunctionNode processFunctionBody(
+      List<AstArgDefinition> arguments, AstExpression body, boolean isLazy) {
 
     ArgDefinitionFactory argFactory =
         new ArgDefinitionFactory(scope, language, scopeName, moduleScope);
@@ -234,13 +293,25 @@ public class ExpressionFactory implements AstExpressionVisitor<ExpressionNode> {
       }
     }
 
-    ExpressionNode bodyExpr = body.visit(this);
+    ExpressionNode bodyExpr = isLazy ? new LazyBodyNode(() -> body.visit(this)) : body.visit(this);
 
     BlockNode fnBodyNode = new BlockNode(argExpressions.toArray(new ExpressionNode[0]), bodyExpr);
     RootNode fnRootNode =
         new ClosureRootNode(language, scope, moduleScope, fnBodyNode, null, "lambda::" + scopeName);
     RootCallTarget callTarget = Truffle.getRuntime().createCallTarget(fnRootNode);
 
+    LocalScope environment = scope.getParent();
+    if (environment != null && environment.isEnvironment()) {
+      environment.seal();
+      // Note [Lifted Functions]
+      boolean usesCallerFrame = !LambdaLifting.canLift(arguments, body);
+      boolean isLifted = environment.isClosed() && !usesCallerFrame;
+      if (isLifted || environment.hasFrame()) {
+        boolean linksEnclosingFrame = usesCallerFrame || environment.isLookedThrough();
+        return new CreateFunctionNode(
+            callTarget, argDefinitions, environment, isLifted, linksEnclosingFrame);
+      }
+    }
     return new CreateFunctionNode(callTarget, argDefinitions);
   }
 
@@ -266,6 +337,25 @@ public class ExpressionFactory implements AstExpressionVisitor<ExpressionNode> {
    *    thus allowing it to be read simply.
    */
 
+  /* Note [Lazy Method Bodies]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * Most methods of a module, and even more so of the modules it imports, are never called by a
+   * given program, yet converting their bodies into nodes takes time and memory when the module is
+   * loaded. Methods are therefore created with a `LazyBodyNode` standing in for their body, which
+   * only keeps the AST of the body, and builds its nodes on the first call.
+   *
+   * The arguments are still processed eagerly, as the schema of the function is needed by the call
+   * sites before the function is ever executed, and the argument slots have to be created in the
+   * local scope before those of the body. Only the visit of the body is deferred, which is safe
+   * for top-level methods because nothing else uses their expression factory and local scope in
+   * the meantime. Frame slots created while building the body are added to the frame descriptor of
+   * the method after the frame of the first call was created, which Truffle frames accommodate by
+   * growing on access.
+   *
+   * As a consequence, errors in the body of a method, such as references to undefined variables,
+   * are only reported when the method is first called.
+   */
+
   /**
    * Creates a runtime node representing a function.
    *
@@ -279,7 +369,8 @@ public class ExpressionFactory implements AstExpressionVisitor<ExpressionNode> {
    */
   @Override
   public ExpressionNode visitFunction(List<AstArgDefinition> arguments, AstExpression body) {
-    ExpressionFactory child = createChild(currentVarName);
+    ExpressionFactory child = createClosureChild(currentVarName, selfBindingName);
+    selfBindingName = null;
     ExpressionNode fun = child.processFunctionBody(arguments, body);
     fun.markTail();
     return fun;
@@ -312,11 +403,38 @@ public class ExpressionFactory implements AstExpressionVisitor<ExpressionNode> {
   @Override
   public ExpressionNode visitFunctionApplication(
       AstExpression function, List<AstCallArg> arguments, boolean hasDefaultsSuspended) {
+    if (!hasDefaultsSuspended) {
+      Optional<ExpressionNode> intrinsic = intrinsify(function, arguments);
+      if (intrinsic.isPresent()) {
+        return intrinsic.get();
+      }
+    }
+    return createApplication(function, arguments, hasDefaultsSuspended, null);
+  }
+
+  /**
+   * Creates a runtime node representing a regular call.
+   *
+   * @param function the function being called
+   * @param arguments the arguments being applied to the function
+   * @param hasDefaultsSuspended whether the call suspends the default arguments of the function
+   * @param evaluatedFirstArg the node reading the already evaluated first argument, or {@code null}
+   *     if the first argument should be processed as usual
+   * @return a runtime node representing the function call
+   */
+  private ApplicationNode createApplication(
+      AstExpression function,
+      List<AstCallArg> arguments,
+      boolean hasDefaultsSuspended,
+      ExpressionNode evaluatedFirstArg) {
     CallArgFactory argFactory = new CallArgFactory(scope, language, scopeName, moduleScope);
 
     List<CallArgument> callArgs = new ArrayList<>();
     for (int position = 0; position < arguments.size(); ++position) {
-      CallArgument arg = arguments.get(position).visit(argFactory, position);
+      CallArgument arg =
+          position == 0 && evaluatedFirstArg != null
+              ? new CallArgument(null, evaluatedFirstArg)
+              : arguments.get(position).visit(argFactory, position);
       callArgs.add(arg);
     }
 
@@ -325,8 +443,108 @@ public class ExpressionFactory implements AstExpressionVisitor<ExpressionNode> {
             ? InvokeCallableNode.DefaultsExecutionMode.IGNORE
             : InvokeCallableNode.DefaultsExecutionMode.EXECUTE;
 
+    boolean memoizeArguments =
+        RuntimeOptions.shouldMemoizeThunks(language.getCurrentContext().getEnvironment());
+
     return new ApplicationNode(
-        function.visit(this), callArgs.toArray(new CallArgument[0]), defaultsExecutionMode);
+        function.visit(this),
+        callArgs.toArray(new CallArgument[0]),
+        defaultsExecutionMode,
+        memoizeArguments);
+  }
+
+  /**
+   * Creates a runtime node performing the work of a builtin method in the caller's frame, if the
+   * function application is a call to one of the intrinsified builtins.
+   *
+   * <p>See Note [Intrinsified Builtins].
+   *
+   * @param function the function being called
+   * @param arguments the arguments being applied to the function
+   * @return a runtime node representing the intrinsified call, if the call can be intrinsified
+   */
+  private Optional<ExpressionNode> intrinsify(AstExpression function, List<AstCallArg> arguments) {
+    if (!(function instanceof AstVariable) || !isGlobalName(((AstVariable) function).name())) {
+      return Optional.empty();
+    }
+    List<AstExpression> args = new ArrayList<>();
+    for (AstCallArg argument : arguments) {
+      if (!(argument instanceof AstUnnamedCallArg)) {
+        return Optional.empty();
+      }
+      args.add(((AstUnnamedCallArg) argument).value());
+    }
+
+    String name = ((AstVariable) function).name();
+    UnresolvedSymbol symbol = new UnresolvedSymbol(name, moduleScope);
+    if (name.equals("ifZero") && args.size() == 3) {
+      FrameSlot targetSlot = scope.createTemporarySlot();
+      ExpressionNode readTarget = ReadLocalTargetNodeGen.create(new FramePointer(0, targetSlot));
+      return Optional.of(
+          new IfZeroIntrinsicNode(
+              symbol,
+              createApplication(function, arguments, false, readTarget),
+              args.get(0).visit(this),
+              targetSlot,
+              args.get(1).visit(this),
+              args.get(2).visit(this)));
+    } else if (name.equals("get") && args.size() == 1) {
+      return getConstructor(args.get(0), "State")
+          .map(
+              state ->
+                  new GetStateIntrinsicNode(
+                      symbol, state, createApplication(function, arguments, false, null)));
+    } else if (name.equals("put") && args.size() == 2) {
+      return getConstructor(args.get(0), "State")
+          .map(
+              state ->
+                  new PutStateIntrinsicNode(
+                      symbol,
+                      state,
+                      createApplication(function, arguments, false, null),
+                      args.get(1).visit(this)));
+    } else if (name.equals("throw") && args.size() == 2) {
+      return getConstructor(args.get(0), "Panic")
+          .map(
+              panic ->
+                  new PanicIntrinsicNode(
+                      symbol,
+                      panic,
+                      createApplication(function, arguments, false, null),
+                      args.get(1).visit(this)));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Checks whether a name refers to neither a local variable nor a constructor.
+   *
+   * @param name the name to check
+   * @return {@code true} if the name is resolved dynamically, {@code false} otherwise
+   */
+  private boolean isGlobalName(String name) {
+    return !scope.getSlot(name).isPresent() && !moduleScope.getConstructor(name).isPresent();
+  }
+
+  /**
+   * Gets the constructor an expression refers to, if it is a reference to a given constructor.
+   *
+   * @param expr the expression to check
+   * @param name the name of the constructor
+   * @return the constructor, if {@code expr} is either its name or a call to it with no arguments
+   */
+  private Optional<AtomConstructor> getConstructor(AstExpression expr, String name) {
+    boolean isReference =
+        (expr instanceof AstVariable && ((AstVariable) expr).name().equals(name))
+            || (expr instanceof AstApply
+                && ((AstApply) expr).fun() instanceof AstVariable
+                && ((AstVariable) ((AstApply) expr).fun()).name().equals(name)
+                && ((AstApply) expr).args().isEmpty()
+                && !((AstApply) expr).hasDefaultsSuspended());
+    if (!isReference || scope.getSlot(name).isPresent()) {
+      return Optional.empty();
+    }
+    return moduleScope.getConstructor(name);
   }
 
   /**
@@ -340,7 +558,13 @@ public class ExpressionFactory implements AstExpressionVisitor<ExpressionNode> {
   public ExpressionNode visitAssignment(String varName, AstExpression expr) {
     currentVarName = varName;
     FrameSlot slot = scope.createVarSlot(varName);
-    return AssignmentNodeGen.create(expr.visit(this), slot);
+    scope.markPending(varName);
+    if (expr instanceof AstFunction) {
+      selfBindingName = varName;
+    }
+    ExpressionNode value = expr.visit(this);
+    scope.markInitialized(varName);
+    return AssignmentNodeGen.create(value, slot);
   }
 
   /**
@@ -355,13 +579,13 @@ public class ExpressionFactory implements AstExpressionVisitor<ExpressionNode> {
   public ExpressionNode visitMatch(
       AstExpression target, List<AstCase> branches, Optional<AstCaseFunction> fallback) {
     ExpressionNode targetNode = target.visit(this);
-    CaseNode[] cases =
+    ConstructorCaseNode[] cases =
         branches.stream()
             .map(
                 branch ->
                     new ConstructorCaseNode(
                         branch.cons().visit(this), branch.function().visit(this)))
-            .toArray(CaseNode[]::new);
+            .toArray(ConstructorCaseNode[]::new);
 
     // Note [Pattern Match Fallbacks]
     CaseNode fallbackNode =
@@ -74,7 +74,7 @@ public class ModuleScopeExpressionFactory implements AstModuleScopeVisitor<Funct
 
     List<AtomConstructor> constructors =
         typeDefs.stream()
-            .map(type -> new AtomConstructor(type.name(), moduleScope))
+            .map(type -> moduleScope.createConstructor(type.name()))
             .collect(Collectors.toList());
 
     constructors.forEach(moduleScope::registerConstructor);
@@ -108,7 +108,7 @@ public class ModuleScopeExpressionFactory implements AstModuleScopeVisitor<Funct
       realArgs.add(0, thisArgument);
 
       CreateFunctionNode funNode =
-          expressionFactory.processFunctionBody(realArgs, method.fun().body());
+          expressionFactory.processMethodBody(realArgs, method.fun().body());
       funNode.markTail();
       Function function =
           new Function(
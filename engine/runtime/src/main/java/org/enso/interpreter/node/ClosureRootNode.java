@@ -1,12 +1,21 @@
 package org.enso.interpreter.node;
 
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.dsl.ReportPolymorphism;
+import com.oracle.truffle.api.frame.FrameDescriptor;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotKind;
 import com.oracle.truffle.api.frame.FrameUtil;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.RepeatingNode;
+import com.oracle.truffle.api.profiles.ConditionProfile;
 import com.oracle.truffle.api.source.SourceSection;
 import org.enso.interpreter.Language;
 import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.control.TailCall;
 import org.enso.interpreter.runtime.scope.LocalScope;
 import org.enso.interpreter.runtime.scope.ModuleScope;
 import org.enso.interpreter.runtime.state.Stateful;
@@ -21,6 +30,12 @@ import org.enso.interpreter.runtime.state.Stateful;
 public class ClosureRootNode extends EnsoRootNode {
 
   @Child private ExpressionNode body;
+  @Child private LoopNode selfTailCallLoop;
+  private final ConditionProfile selfTailCallProfile = ConditionProfile.createBinaryProfile();
+  private final ConditionProfile stateModifiedProfile = ConditionProfile.createBinaryProfile();
+  private final ConditionProfile loopStateModifiedProfile =
+      ConditionProfile.createBinaryProfile();
+  private final FrameSlot selfTailCallFrameSlot;
 
   /**
    * Creates a new root node.
@@ -41,6 +56,8 @@ public class ClosureRootNode extends EnsoRootNode {
       String name) {
     super(language, localScope, moduleScope, name, section);
     this.body = body;
+    this.selfTailCallFrameSlot =
+        getFrameDescriptor().findOrAddFrameSlot("<Self Tail Call Frame>", FrameSlotKind.Object);
   }
 
   /**
@@ -51,11 +68,184 @@ public class ClosureRootNode extends EnsoRootNode {
    */
   @Override
   public Object execute(VirtualFrame frame) {
-    Object state = Function.ArgumentsHelper.getState(frame.getArguments());
-    frame.setObject(this.getStateFrameSlot(), state);
+    Object result = executeBody(frame);
+    if (selfTailCallProfile.profile(isSelfTailCall(result))) {
+      Object entryState = Function.ArgumentsHelper.getState(frame.getArguments());
+      return executeSelfTailCalls(entryState, (TailCall) result);
+    }
+    return result;
+  }
+
+  private Object executeBody(VirtualFrame frame) {
+    Object initialState = Function.ArgumentsHelper.getState(frame.getArguments());
+    frame.setObject(this.getStateFrameSlot(), initialState);
     Object result = body.executeGeneric(frame);
-    state = FrameUtil.getObjectSafe(frame, this.getStateFrameSlot());
-    return new Stateful(state, result);
+    if (result instanceof TailCall) {
+      // Note [Tail Call Results]
+      return result;
+    }
+    Object state = FrameUtil.getObjectSafe(frame, this.getStateFrameSlot());
+    if (stateModifiedProfile.profile(state != initialState)) {
+      return new Stateful(state, result);
+    }
+    // Note [Stateful Call Results]
+    return result;
+  }
+
+  private boolean isSelfTailCall(Object result) {
+    return result instanceof TailCall
+        && ((TailCall) result).getFunction().getCallTarget().getRootNode() == this;
+  }
+
+  private Object executeSelfTailCalls(Object entryState, TailCall tailCall) {
+    if (selfTailCallLoop == null) {
+      CompilerDirectives.transferToInterpreterAndInvalidate();
+      selfTailCallLoop = insert(Truffle.getRuntime().createLoopNode(new SelfTailCallNode(this)));
+    }
+    SelfTailCallNode repeatingNode = (SelfTailCallNode) selfTailCallLoop.getRepeatingNode();
+    VirtualFrame loopFrame =
+        Truffle.getRuntime().createVirtualFrame(null, repeatingNode.getLoopFrameDescriptor());
+    repeatingNode.setNextCall(loopFrame, tailCall);
+    selfTailCallLoop.execute(loopFrame);
+    Object result = repeatingNode.getResult(loopFrame);
+    if (result instanceof TailCall || result instanceof Stateful) {
+      return result;
+    }
+    // Note [Self Tail Call State]
+    Object state = repeatingNode.getFinalState(loopFrame);
+    if (loopStateModifiedProfile.profile(state != entryState)) {
+      return new Stateful(state, result);
+    }
+    return result;
+  }
+
+  /**
+   * Checks whether a frame of this root node is the one reported for its activation by the Truffle
+   * call stack, i.e. whether it is not a frame of the self tail call loop.
+   *
+   * @param frame a frame this node is executing in
+   * @return {@code true} if {@code frame} can be found on the call stack, {@code false} otherwise
+   */
+  @Override
+  public boolean isOnCallStack(VirtualFrame frame) {
+    return FrameUtil.getObjectSafe(frame, selfTailCallFrameSlot) == null;
+  }
+
+  /* Note [Self Tail Calls]
+   * ~~~~~~~~~~~~~~~~~~~~~~
+   * When the body of a closure ends in a tail call to the very same closure, as in
+   * `summator = { |acc, i| @ifZero [i, acc, @summator [acc + i, i - 1]] }`, there is no need to
+   * return the `TailCall` to the caller's `LoopingCallOptimiserNode` and go through a new call
+   * frame on every iteration. Instead, the root node runs its own body in a `LoopNode`, so that the
+   * whole recursion can be OSR-compiled as a single loop.
+   *
+   * Each iteration gets a fresh virtual frame, holding the new arguments. Reusing the frame itself
+   * would not be sound, as any closure or thunk capturing it in one iteration would observe the
+   * values bound in the next one. Frames that are not captured are virtualized by the compiler, so
+   * the arguments end up as plain (and, for numbers, unboxed) loop variables.
+   */
+
+  /* Note [Self Tail Call State]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * Each iteration of the self tail call loop is entered with the state passed by the previous
+   * one, and only wraps its result in a `Stateful` if it changed that state itself. The state the
+   * last iteration was entered with may still differ from the state the closure was called with,
+   * when only earlier iterations changed it. The result is then wrapped when leaving the loop, so
+   * that the caller doesn't pair it with its own, outdated state.
+   */
+
+  /**
+   * Executes the body of a self-tail-recursive closure repeatedly, for as long as it keeps on
+   * tail-calling itself. See Note [Self Tail Calls].
+   */
+  private static final class SelfTailCallNode extends Node implements RepeatingNode {
+    private final ClosureRootNode rootNode;
+    private final FrameDescriptor loopFrameDescriptor = new FrameDescriptor();
+    private final FrameSlot callSlot;
+    private final FrameSlot resultSlot;
+    private final FrameSlot stateSlot;
+
+    /**
+     * Creates a new node for repeating the self tail calls of a given root node.
+     *
+     * @param rootNode the root node whose body is executed
+     */
+    SelfTailCallNode(ClosureRootNode rootNode) {
+      this.rootNode = rootNode;
+      callSlot = loopFrameDescriptor.findOrAddFrameSlot("<Self Tail Call>", FrameSlotKind.Object);
+      resultSlot =
+          loopFrameDescriptor.findOrAddFrameSlot("<Self Tail Call Result>", FrameSlotKind.Object);
+      stateSlot =
+          loopFrameDescriptor.findOrAddFrameSlot("<Self Tail Call State>", FrameSlotKind.Object);
+    }
+
+    /**
+     * Gets the descriptor of frames used for looping.
+     *
+     * @return the frame descriptor of the loop frame
+     */
+    FrameDescriptor getLoopFrameDescriptor() {
+      return loopFrameDescriptor;
+    }
+
+    /**
+     * Sets the next call to be executed by the loop.
+     *
+     * @param frame the loop frame
+     * @param tailCall the call to execute
+     */
+    void setNextCall(VirtualFrame frame, TailCall tailCall) {
+      frame.setObject(callSlot, tailCall);
+    }
+
+    /**
+     * Obtains the result of looping execution.
+     *
+     * @param frame the loop frame
+     * @return the result of the last iteration
+     */
+    Object getResult(VirtualFrame frame) {
+      return FrameUtil.getObjectSafe(frame, resultSlot);
+    }
+
+    /**
+     * Obtains the state the last iteration of the loop was executed with.
+     *
+     * @param frame the loop frame
+     * @return the state passed to the last iteration
+     */
+    Object getFinalState(VirtualFrame frame) {
+      return FrameUtil.getObjectSafe(frame, stateSlot);
+    }
+
+    /**
+     * Executes the body of the root node with the arguments of the next call.
+     *
+     * @param frame the loop frame
+     * @return {@code true} if the body tail-called itself again, {@code false} otherwise
+     */
+    @Override
+    public boolean executeRepeating(VirtualFrame frame) {
+      TailCall tailCall = (TailCall) FrameUtil.getObjectSafe(frame, callSlot);
+      Object[] arguments =
+          Function.ArgumentsHelper.buildArguments(
+              tailCall.getFunction(),
+              tailCall.getCallerInfo(),
+              tailCall.getState(),
+              tailCall.getArguments());
+      VirtualFrame bodyFrame =
+          Truffle.getRuntime().createVirtualFrame(arguments, rootNode.getFrameDescriptor());
+      bodyFrame.setObject(rootNode.selfTailCallFrameSlot, Boolean.TRUE);
+      Object result = rootNode.executeBody(bodyFrame);
+      if (rootNode.isSelfTailCall(result)) {
+        frame.setObject(callSlot, result);
+        return true;
+      }
+      frame.setObject(callSlot, null);
+      frame.setObject(resultSlot, result);
+      frame.setObject(stateSlot, tailCall.getState());
+      return false;
+    }
   }
 
   /**
@@ -4,6 +4,7 @@ import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.frame.FrameSlot;
 import com.oracle.truffle.api.frame.FrameSlotKind;
+import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.RootNode;
 import com.oracle.truffle.api.source.SourceSection;
 import org.enso.interpreter.Language;
@@ -82,6 +83,18 @@ public abstract class EnsoRootNode extends RootNode {
     return localScope.getStateFrameSlot();
   }
 
+  /**
+   * Checks whether a frame of this root node is the one reported for its activation by the Truffle
+   * call stack. See Note [Lazy Caller Frames] in {@link
+   * org.enso.interpreter.runtime.callable.CallerInfo}.
+   *
+   * @param frame a frame this node is executing in
+   * @return {@code true} if {@code frame} can be found on the call stack, {@code false} otherwise
+   */
+  public boolean isOnCallStack(VirtualFrame frame) {
+    return true;
+  }
+
   /**
    * Gets the source code represented by this node.
    *
@@ -28,22 +28,35 @@ public class ApplicationNode extends ExpressionNode {
   @CompilationFinal(dimensions = 1)
   private RootCallTarget[] argExpressions;
 
+  @Children private ExpressionNode[] eagerArguments;
+  private final boolean hasSuspendedArguments;
+
   @Child private InvokeCallableNode invokeCallableNode;
   @Child private ExpressionNode callable;
+  private final boolean memoizeArguments;
 
   /**
    * Creates a new node for performing callable invocation.
    *
    * @param callArguments information on the arguments being passed to the {@link Function}
+   * @param memoizeArguments whether the arguments should be passed as memoizing thunks
    */
   public ApplicationNode(
       ExpressionNode callable,
       CallArgument[] callArguments,
-      InvokeCallableNode.DefaultsExecutionMode defaultsExecutionMode) {
+      InvokeCallableNode.DefaultsExecutionMode defaultsExecutionMode,
+      boolean memoizeArguments) {
+    this.memoizeArguments = memoizeArguments;
     this.argExpressions =
         Arrays.stream(callArguments)
             .map(CallArgument::getExpression)
             .toArray(RootCallTarget[]::new);
+    this.eagerArguments =
+        Arrays.stream(callArguments)
+            .map(CallArgument::getEagerValue)
+            .toArray(ExpressionNode[]::new);
+    this.hasSuspendedArguments =
+        Arrays.stream(callArguments).anyMatch(arg -> !arg.isEager());
 
     CallArgumentInfo[] argSchema =
         Arrays.stream(callArguments).map(CallArgumentInfo::new).toArray(CallArgumentInfo[]::new);
@@ -68,15 +81,23 @@ public class ApplicationNode extends ExpressionNode {
   /**
    * Evaluates the arguments being passed to the function.
    *
+   * <p>Arguments that can be evaluated eagerly are computed directly in the caller's frame, while
+   * all the other arguments are suspended in thunks. The frame is only materialized if there are
+   * arguments to suspend.
+   *
    * @param frame the stack frame in which to execute
    * @return the results of evaluating the function arguments
    */
   @ExplodeLoop
   public Object[] evaluateArguments(VirtualFrame frame) {
     Object[] computedArguments = new Object[this.argExpressions.length];
-    MaterializedFrame scope = frame.materialize();
+    MaterializedFrame scope = hasSuspendedArguments ? frame.materialize() : null;
     for (int i = 0; i < this.argExpressions.length; ++i) {
-      computedArguments[i] = new Thunk(this.argExpressions[i], scope);
+      if (eagerArguments[i] != null) {
+        computedArguments[i] = eagerArguments[i].executeGeneric(frame);
+      } else {
+        computedArguments[i] = new Thunk(this.argExpressions[i], scope, memoizeArguments);
+      }
     }
     return computedArguments;
   }
@@ -4,6 +4,7 @@ import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.profiles.ConditionProfile;
 import org.enso.interpreter.node.EnsoRootNode;
 import org.enso.interpreter.runtime.callable.CallerInfo;
 import org.enso.interpreter.runtime.scope.LocalScope;
@@ -13,13 +14,21 @@ import org.enso.interpreter.runtime.scope.ModuleScope;
  * Captures the current caller info to pass to functions requiring it.
  *
  * <p>The information captured includes current execution frame, as well as static context,
- * including the local and module scope metadata.
+ * including the local and module scope metadata. The frame can be captured lazily, see Note [Lazy
+ * Caller Frames] in {@link CallerInfo}.
  */
 @NodeInfo(
     description = "Captures the caller info for use in functions called from this node's scope")
 public class CaptureCallerInfoNode extends Node {
   private @CompilerDirectives.CompilationFinal LocalScope localScope;
   private @CompilerDirectives.CompilationFinal ModuleScope moduleScope;
+  private @CompilerDirectives.CompilationFinal EnsoRootNode rootNode;
+  private final boolean captureLazily;
+  private final ConditionProfile onStackProfile = ConditionProfile.createBinaryProfile();
+
+  private CaptureCallerInfoNode(boolean captureLazily) {
+    this.captureLazily = captureLazily;
+  }
 
   /**
    * Captures the caller info for use in functions called from the current scope.
@@ -30,19 +39,33 @@ public class CaptureCallerInfoNode extends Node {
   public CallerInfo execute(VirtualFrame frame) {
     if (localScope == null) {
       CompilerDirectives.transferToInterpreterAndInvalidate();
-      EnsoRootNode rootNode = (EnsoRootNode) getRootNode();
+      rootNode = (EnsoRootNode) getRootNode();
       localScope = rootNode.getLocalScope();
       moduleScope = rootNode.getModuleScope();
     }
+    if (captureLazily && onStackProfile.profile(rootNode.isOnCallStack(frame))) {
+      return new CallerInfo(rootNode, frame.getArguments(), localScope, moduleScope);
+    }
     return new CallerInfo(frame.materialize(), localScope, moduleScope);
   }
 
   /**
-   * Creates an instance of this node.
+   * Creates an instance of this node, capturing the frame eagerly.
    *
    * @return an instance of this node
    */
   public static CaptureCallerInfoNode build() {
-    return new CaptureCallerInfoNode();
+    return new CaptureCallerInfoNode(false);
+  }
+
+  /**
+   * Creates an instance of this node.
+   *
+   * @param captureLazily whether the frame may be looked up on the call stack when needed, which
+   *     requires the caller info to be used only while the current frame is still on the stack
+   * @return an instance of this node
+   */
+  public static CaptureCallerInfoNode build(boolean captureLazily) {
+    return new CaptureCallerInfoNode(captureLazily);
   }
 }
@@ -39,9 +39,10 @@ public abstract class ExecuteCallNode extends Node {
       Object[] arguments,
       @Cached("function.getCallTarget()") RootCallTarget cachedTarget,
       @Cached("create(cachedTarget)") DirectCallNode callNode) {
-    return (Stateful)
+    return Stateful.fromCallResult(
+        state,
         callNode.call(
-            Function.ArgumentsHelper.buildArguments(function, callerInfo, state, arguments));
+            Function.ArgumentsHelper.buildArguments(function, callerInfo, state, arguments)));
   }
 
   /**
@@ -64,10 +65,11 @@ public abstract class ExecuteCallNode extends Node {
       Object state,
       Object[] arguments,
       @Cached IndirectCallNode callNode) {
-    return (Stateful)
+    return Stateful.fromCallResult(
+        state,
         callNode.call(
             function.getCallTarget(),
-            Function.ArgumentsHelper.buildArguments(function, callerInfo, state, arguments));
+            Function.ArgumentsHelper.buildArguments(function, callerInfo, state, arguments)));
   }
 
   /**
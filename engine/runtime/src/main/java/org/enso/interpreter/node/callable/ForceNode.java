@@ -7,7 +7,6 @@ import com.oracle.truffle.api.frame.FrameUtil;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import org.enso.interpreter.node.ExpressionNode;
 import org.enso.interpreter.node.callable.argument.ThunkExecutorNode;
-import org.enso.interpreter.runtime.callable.argument.Thunk;
 import org.enso.interpreter.runtime.state.Stateful;
 
 /** Node responsible for handling user-requested thunks forcing. */
@@ -16,7 +15,7 @@ public abstract class ForceNode extends ExpressionNode {
   @Specialization
   Object passToExecutorNode(
       VirtualFrame frame,
-      Thunk thunk,
+      Object thunk,
       @Cached("build(isTail())") ThunkExecutorNode thunkExecutorNode) {
     Object state = FrameUtil.getObjectSafe(frame, getStateFrameSlot());
     Stateful result = thunkExecutorNode.executeThunk(thunk, state);
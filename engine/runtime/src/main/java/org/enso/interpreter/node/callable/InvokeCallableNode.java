@@ -161,7 +161,7 @@ public abstract class InvokeCallableNode extends BaseNode {
           CompilerDirectives.transferToInterpreterAndInvalidate();
           thisExecutor = ThunkExecutorNode.build(false);
         }
-        Stateful selfResult = thisExecutor.executeThunk((Thunk) selfArgument, state);
+        Stateful selfResult = thisExecutor.executeThunk(selfArgument, state);
         selfArgument = selfResult.getValue();
         state = selfResult.getState();
       }
@@ -1,23 +1,34 @@
 package org.enso.interpreter.node.callable;
 
+import com.oracle.truffle.api.Assumption;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.CachedContext;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.Node;
+import org.enso.interpreter.Constants;
 import org.enso.interpreter.Language;
 import org.enso.interpreter.runtime.Context;
 import org.enso.interpreter.runtime.callable.UnresolvedSymbol;
 import org.enso.interpreter.runtime.callable.atom.Atom;
 import org.enso.interpreter.runtime.callable.atom.AtomConstructor;
 import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.data.EnsoMap;
+import org.enso.interpreter.runtime.data.Text;
+import org.enso.interpreter.runtime.data.Vector;
 import org.enso.interpreter.runtime.error.MethodDoesNotExistException;
 import org.enso.interpreter.runtime.error.RuntimeError;
+import org.enso.interpreter.runtime.number.EnsoBigInteger;
 
 /**
  * A node performing lookups of method definitions.
  *
- * <p>Uses a polymorphic inline cache to ensure the best performance.
+ * <p>Uses a polymorphic inline cache to ensure the best performance. Call sites that see more
+ * constructors than the cache can hold fall back to looking the method up in the flattened method
+ * tables of the module scope, which are shared by all the call sites of the scope and dropped when
+ * its methods change (see Note [Flattened Method Tables] in {@link
+ * org.enso.interpreter.runtime.scope.ModuleScope}). Cached entries are guarded by the assumption
+ * that the method has not been redefined since it was resolved.
  *
  * <p>The dispatch algorithm works by matching the kind of value the method is requested for and
  * delegating to the proper lookup method of {@link UnresolvedSymbol}.
@@ -33,49 +44,125 @@ public abstract class MethodResolverNode extends Node {
    */
   public abstract Function execute(UnresolvedSymbol symbol, Object self);
 
-  @Specialization(guards = "isValidAtomCache(symbol, cachedSymbol, atom, cachedConstructor)")
+  @Specialization(
+      guards = "isValidAtomCache(symbol, cachedSymbol, atom, cachedConstructor)",
+      limit = Constants.CacheSizes.METHOD_RESOLVER_NODE,
+      assumptions = "methodAssumption")
   Function resolveAtomCached(
       UnresolvedSymbol symbol,
       Atom atom,
       @Cached("symbol") UnresolvedSymbol cachedSymbol,
       @Cached("atom.getConstructor()") AtomConstructor cachedConstructor,
+      @Cached("cachedSymbol.getMethodAssumption()") Assumption methodAssumption,
       @Cached("resolveMethodOnAtom(cachedConstructor, cachedSymbol)") Function function) {
     return function;
   }
 
-  @Specialization(guards = {"cachedSymbol == symbol", "atomConstructor == cachedConstructor"})
+  @Specialization(replaces = "resolveAtomCached")
+  Function resolveAtomUncached(UnresolvedSymbol symbol, Atom atom) {
+    return resolveMethodOnAtom(atom.getConstructor(), symbol);
+  }
+
+  @Specialization(
+      guards = {"cachedSymbol == symbol", "atomConstructor == cachedConstructor"},
+      limit = Constants.CacheSizes.METHOD_RESOLVER_NODE,
+      assumptions = "methodAssumption")
   Function resolveAtomConstructorCached(
       UnresolvedSymbol symbol,
       AtomConstructor atomConstructor,
       @Cached("symbol") UnresolvedSymbol cachedSymbol,
       @Cached("atomConstructor") AtomConstructor cachedConstructor,
+      @Cached("cachedSymbol.getMethodAssumption()") Assumption methodAssumption,
       @Cached("resolveMethodOnAtom(cachedConstructor, cachedSymbol)") Function function) {
     return function;
   }
 
-  @Specialization(guards = "cachedSymbol == symbol")
+  @Specialization(replaces = "resolveAtomConstructorCached")
+  Function resolveAtomConstructorUncached(
+      UnresolvedSymbol symbol, AtomConstructor atomConstructor) {
+    return resolveMethodOnAtom(atomConstructor, symbol);
+  }
+
+  @Specialization(guards = "cachedSymbol == symbol", assumptions = "methodAssumption")
   Function resolveNumberCached(
       UnresolvedSymbol symbol,
       long self,
       @Cached("symbol") UnresolvedSymbol cachedSymbol,
+      @Cached("cachedSymbol.getMethodAssumption()") Assumption methodAssumption,
+      @Cached("resolveMethodOnNumber(cachedSymbol)") Function function) {
+    return function;
+  }
+
+  @Specialization(guards = "cachedSymbol == symbol", assumptions = "methodAssumption")
+  Function resolveDecimalCached(
+      UnresolvedSymbol symbol,
+      double self,
+      @Cached("symbol") UnresolvedSymbol cachedSymbol,
+      @Cached("cachedSymbol.getMethodAssumption()") Assumption methodAssumption,
+      @Cached("resolveMethodOnNumber(cachedSymbol)") Function function) {
+    return function;
+  }
+
+  @Specialization(guards = "cachedSymbol == symbol", assumptions = "methodAssumption")
+  Function resolveBigIntegerCached(
+      UnresolvedSymbol symbol,
+      EnsoBigInteger self,
+      @Cached("symbol") UnresolvedSymbol cachedSymbol,
+      @Cached("cachedSymbol.getMethodAssumption()") Assumption methodAssumption,
       @Cached("resolveMethodOnNumber(cachedSymbol)") Function function) {
     return function;
   }
 
-  @Specialization(guards = "cachedSymbol == symbol")
+  @Specialization(guards = "cachedSymbol == symbol", assumptions = "methodAssumption")
+  Function resolveVectorCached(
+      UnresolvedSymbol symbol,
+      Vector self,
+      @Cached("symbol") UnresolvedSymbol cachedSymbol,
+      @Cached("cachedSymbol.getMethodAssumption()") Assumption methodAssumption,
+      @CachedContext(Language.class) TruffleLanguage.ContextReference<Context> contextRef,
+      @Cached("resolveMethodOnAtom(contextRef.get().getVector(), cachedSymbol)")
+          Function function) {
+    return function;
+  }
+
+  @Specialization(guards = "cachedSymbol == symbol", assumptions = "methodAssumption")
+  Function resolveTextCached(
+      UnresolvedSymbol symbol,
+      Text self,
+      @Cached("symbol") UnresolvedSymbol cachedSymbol,
+      @Cached("cachedSymbol.getMethodAssumption()") Assumption methodAssumption,
+      @CachedContext(Language.class) TruffleLanguage.ContextReference<Context> contextRef,
+      @Cached("resolveMethodOnAtom(contextRef.get().getText(), cachedSymbol)") Function function) {
+    return function;
+  }
+
+  @Specialization(guards = "cachedSymbol == symbol", assumptions = "methodAssumption")
+  Function resolveMapCached(
+      UnresolvedSymbol symbol,
+      EnsoMap self,
+      @Cached("symbol") UnresolvedSymbol cachedSymbol,
+      @Cached("cachedSymbol.getMethodAssumption()") Assumption methodAssumption,
+      @CachedContext(Language.class) TruffleLanguage.ContextReference<Context> contextRef,
+      @Cached("resolveMethodOnAtom(contextRef.get().getMap(), cachedSymbol)") Function function) {
+    return function;
+  }
+
+  @Specialization(guards = "cachedSymbol == symbol", assumptions = "methodAssumption")
   Function resolveFunctionCached(
       UnresolvedSymbol symbol,
       Function self,
       @Cached("symbol") UnresolvedSymbol cachedSymbol,
+      @Cached("cachedSymbol.getMethodAssumption()") Assumption methodAssumption,
       @Cached("resolveMethodOnFunction(cachedSymbol)") Function function) {
     return function;
   }
 
-  @Specialization(guards = "cachedSymbol == symbol")
+  @Specialization(guards = "cachedSymbol == symbol", assumptions = "methodAssumption")
   Function resolveErrorCached(
       UnresolvedSymbol symbol,
       RuntimeError self,
       @Cached("symbol") UnresolvedSymbol cachedSymbol,
+      @Cached("cachedSymbol.getMethodAssumption()") Assumption methodAssumption,
       @Cached("resolveMethodOnError(cachedSymbol)") Function function) {
     return function;
   }
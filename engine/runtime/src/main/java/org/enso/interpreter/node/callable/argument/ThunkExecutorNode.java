@@ -1,8 +1,10 @@
 package org.enso.interpreter.node.callable.argument;
 
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.NodeField;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.MaterializedFrame;
 import com.oracle.truffle.api.nodes.DirectCallNode;
 import com.oracle.truffle.api.nodes.IndirectCallNode;
 import com.oracle.truffle.api.nodes.Node;
@@ -10,24 +12,38 @@ import org.enso.interpreter.Constants;
 import org.enso.interpreter.node.callable.dispatch.LoopingCallOptimiserNode;
 import org.enso.interpreter.runtime.callable.argument.Thunk;
 import org.enso.interpreter.runtime.callable.function.Function;
-import org.enso.interpreter.runtime.control.TailCallException;
+import org.enso.interpreter.runtime.control.TailCall;
 import org.enso.interpreter.runtime.state.Stateful;
 
-/** Node responsible for executing (forcing) thunks passed to it as runtime values. */
+/**
+ * Node responsible for executing (forcing) thunks passed to it as runtime values.
+ *
+ * <p>Memoizing thunks that have already been evaluated are not executed again, including those
+ * memoized by another thread while this node was about to execute them. See Note [Memoizing
+ * Thunks] in {@link Thunk}.
+ */
 @NodeField(name = "isTail", type = Boolean.class)
 public abstract class ThunkExecutorNode extends Node {
 
   /**
    * Forces the thunk to its resulting value.
    *
+   * <p>Values that are not thunks are treated as already forced, as arguments evaluated eagerly at
+   * the call site are passed in place of thunks.
+   *
    * @param thunk the thunk to force
    * @param state the state to pass to the thunk
    * @return the return value of this thunk
    */
-  public abstract Stateful executeThunk(Thunk thunk, Object state);
+  public abstract Stateful executeThunk(Object thunk, Object state);
 
   abstract boolean getIsTail();
 
+  @Specialization(guards = "thunk.isEvaluated()")
+  Stateful doEvaluated(Thunk thunk, Object state) {
+    return new Stateful(state, thunk.getValue());
+  }
+
   @Specialization(
       guards = "callNode.getCallTarget() == thunk.getCallTarget()",
       limit = Constants.CacheSizes.THUNK_EXECUTOR_NODE)
@@ -37,16 +53,14 @@ public abstract class ThunkExecutorNode extends Node {
       @Cached("create(thunk.getCallTarget())") DirectCallNode callNode,
       @Cached("createLoopingOptimizerIfNeeded()")
           LoopingCallOptimiserNode loopingCallOptimiserNode) {
-    if (getIsTail()) {
-      return (Stateful) callNode.call(Function.ArgumentsHelper.buildArguments(thunk, state));
-    } else {
-      try {
-        return (Stateful) callNode.call(Function.ArgumentsHelper.buildArguments(thunk, state));
-      } catch (TailCallException e) {
-        return loopingCallOptimiserNode.executeDispatch(
-            e.getFunction(), e.getCallerInfo(), e.getState(), e.getArguments());
-      }
+    MaterializedFrame scope = thunk.getScope();
+    if (scope == null) {
+      return doEvaluated(thunk, state);
     }
+    Stateful result =
+        Stateful.fromCallResult(
+            state, callNode.call(Function.ArgumentsHelper.buildArguments(scope, state)));
+    return memoizeIfNeeded(thunk, continueIfTailCall(result, loopingCallOptimiserNode));
   }
 
   @Specialization(replaces = "doCached")
@@ -56,20 +70,41 @@ public abstract class ThunkExecutorNode extends Node {
       @Cached IndirectCallNode callNode,
       @Cached("createLoopingOptimizerIfNeeded()")
           LoopingCallOptimiserNode loopingCallOptimiserNode) {
-    if (getIsTail()) {
-      return (Stateful)
-          callNode.call(
-              thunk.getCallTarget(), Function.ArgumentsHelper.buildArguments(thunk, state));
-    } else {
-      try {
-        return (Stateful)
+    MaterializedFrame scope = thunk.getScope();
+    if (scope == null) {
+      return doEvaluated(thunk, state);
+    }
+    Stateful result =
+        Stateful.fromCallResult(
+            state,
             callNode.call(
-                thunk.getCallTarget(), Function.ArgumentsHelper.buildArguments(thunk, state));
-      } catch (TailCallException e) {
-        return loopingCallOptimiserNode.executeDispatch(
-            e.getFunction(), e.getCallerInfo(), e.getState(), e.getArguments());
-      }
+                thunk.getCallTarget(), Function.ArgumentsHelper.buildArguments(scope, state)));
+    return memoizeIfNeeded(thunk, continueIfTailCall(result, loopingCallOptimiserNode));
+  }
+
+  @Fallback
+  Stateful doValue(Object value, Object state) {
+    return new Stateful(state, value);
+  }
+
+  private Stateful continueIfTailCall(
+      Stateful result, LoopingCallOptimiserNode loopingCallOptimiserNode) {
+    if (getIsTail() || !(result instanceof TailCall)) {
+      return result;
+    }
+    TailCall tailCall = (TailCall) result;
+    return loopingCallOptimiserNode.executeDispatch(
+        tailCall.getFunction(),
+        tailCall.getCallerInfo(),
+        tailCall.getState(),
+        tailCall.getArguments());
+  }
+
+  private Stateful memoizeIfNeeded(Thunk thunk, Stateful result) {
+    if (thunk.isMemoizing() && !(result instanceof TailCall)) {
+      thunk.memoize(result.getValue());
     }
+    return result;
   }
 
   LoopingCallOptimiserNode createLoopingOptimizerIfNeeded() {
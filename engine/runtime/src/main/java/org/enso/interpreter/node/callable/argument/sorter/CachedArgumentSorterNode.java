@@ -15,10 +15,9 @@ import org.enso.interpreter.runtime.callable.CallerInfo;
 import org.enso.interpreter.runtime.callable.argument.CallArgumentInfo;
 import org.enso.interpreter.runtime.callable.argument.CallArgumentInfo.ArgumentMapping;
 import org.enso.interpreter.runtime.callable.argument.CallArgumentInfo.ArgumentMappingBuilder;
-import org.enso.interpreter.runtime.callable.argument.Thunk;
 import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.callable.function.FunctionSchema;
-import org.enso.interpreter.runtime.control.TailCallException;
+import org.enso.interpreter.runtime.control.TailCall;
 import org.enso.interpreter.runtime.state.Stateful;
 
 /**
@@ -32,7 +31,7 @@ public class CachedArgumentSorterNode extends BaseNode {
   private final ArgumentMapping mapping;
   private final FunctionSchema postApplicationSchema;
   private @CompilerDirectives.CompilationFinal(dimensions = 1) boolean[] argumentShouldExecute;
-  private @Children ThunkExecutorNode[] executors;
+  private @Children final ThunkExecutorNode[] executors;
   private final boolean appliesFully;
   private @Child InvokeCallableNode oversaturatedCallableNode;
   private final InvokeCallableNode.ArgumentsExecutionMode argumentsExecutionMode;
@@ -68,10 +67,11 @@ public class CachedArgumentSorterNode extends BaseNode {
     initializeOversaturatedCallNode(defaultsExecutionMode, argumentsExecutionMode);
 
     argumentShouldExecute = this.mapping.getArgumentShouldExecute();
+    executors = argumentsExecutionMode.shouldExecute() ? buildArgumentExecutors() : null;
     initializeCallNodes();
 
     if (originalFunction.getSchema().getCallerFrameAccess().shouldFrameBePassed()) {
-      this.captureCallerInfoNode = CaptureCallerInfoNode.build();
+      this.captureCallerInfoNode = CaptureCallerInfoNode.build(!isTail);
     }
   }
 
@@ -134,24 +134,21 @@ public class CachedArgumentSorterNode extends BaseNode {
         function, schema, defaultsExecutionMode, argumentsExecutionMode, isTail);
   }
 
-  private void initArgumentExecutors(Object[] arguments) {
-    CompilerDirectives.transferToInterpreterAndInvalidate();
-    executors = new ThunkExecutorNode[argumentShouldExecute.length];
+  private ThunkExecutorNode[] buildArgumentExecutors() {
+    ThunkExecutorNode[] newExecutors = new ThunkExecutorNode[argumentShouldExecute.length];
     for (int i = 0; i < argumentShouldExecute.length; i++) {
-      if (argumentShouldExecute[i] && arguments[i] instanceof Thunk) {
-        executors[i] = ThunkExecutorNode.build(false);
+      if (argumentShouldExecute[i]) {
+        newExecutors[i] = ThunkExecutorNode.build(false);
       }
     }
+    return newExecutors;
   }
 
   @ExplodeLoop
   private Object executeArguments(Object[] arguments, Object state) {
-    if (executors == null) {
-      initArgumentExecutors(arguments);
-    }
     for (int i = 0; i < argumentShouldExecute.length; i++) {
       if (executors[i] != null) {
-        Stateful result = executors[i].executeThunk((Thunk) arguments[i], state);
+        Stateful result = executors[i].executeThunk(arguments[i], state);
         arguments[i] = result.getValue();
         state = result.getState();
       }
@@ -251,7 +248,7 @@ public class CachedArgumentSorterNode extends BaseNode {
     if (getOriginalFunction().getCallStrategy().shouldCallDirect(isTail())) {
       return directCall.executeCall(function, callerInfo, state, arguments);
     } else if (isTail()) {
-      throw new TailCallException(function, callerInfo, state, arguments);
+      return new TailCall(function, callerInfo, state, arguments);
     } else {
       return loopingCall.executeDispatch(function, callerInfo, state, arguments);
     }
@@ -8,18 +8,18 @@ import com.oracle.truffle.api.nodes.RepeatingNode;
 import org.enso.interpreter.node.callable.ExecuteCallNode;
 import org.enso.interpreter.node.callable.ExecuteCallNodeGen;
 import org.enso.interpreter.runtime.callable.CallerInfo;
-import org.enso.interpreter.runtime.control.TailCallException;
+import org.enso.interpreter.runtime.control.TailCall;
 import org.enso.interpreter.runtime.state.Stateful;
 
 /**
  * A version of {@link CallOptimiserNode} that is fully prepared to handle tail calls. Tail calls
- * are handled through exceptions – whenever a tail-recursive call would be executed, an exception
- * containing the next unevaluated call and arguments is thrown instead.
+ * are handled through return values – whenever a tail-recursive call would be executed, a {@link
+ * TailCall} containing the next unevaluated call and arguments is returned instead.
  *
  * <p>This node executes the function in a loop, following all the continuations, until obtaining
  * the actual return value.
  *
- * @see TailCallException
+ * @see TailCall
  */
 public class LoopingCallOptimiserNode extends CallOptimiserNode {
   private final FrameDescriptor loopFrameDescriptor = new FrameDescriptor();
@@ -158,18 +158,23 @@ public class LoopingCallOptimiserNode extends CallOptimiserNode {
      */
     @Override
     public boolean executeRepeating(VirtualFrame frame) {
-      try {
-        Object function = getNextFunction(frame);
-        Object state = getNextState(frame);
-        Object[] arguments = getNextArgs(frame);
-        CallerInfo callerInfo = getCallerInfo(frame);
-        frame.setObject(
-            resultSlot, dispatchNode.executeCall(function, callerInfo, state, arguments));
-        return false;
-      } catch (TailCallException e) {
-        setNextCall(frame, e.getFunction(), e.getCallerInfo(), e.getState(), e.getArguments());
+      Object function = getNextFunction(frame);
+      Object state = getNextState(frame);
+      Object[] arguments = getNextArgs(frame);
+      CallerInfo callerInfo = getCallerInfo(frame);
+      Stateful result = dispatchNode.executeCall(function, callerInfo, state, arguments);
+      if (result instanceof TailCall) {
+        TailCall tailCall = (TailCall) result;
+        setNextCall(
+            frame,
+            tailCall.getFunction(),
+            tailCall.getCallerInfo(),
+            tailCall.getState(),
+            tailCall.getArguments());
         return true;
       }
+      frame.setObject(resultSlot, result);
+      return false;
     }
   }
 }
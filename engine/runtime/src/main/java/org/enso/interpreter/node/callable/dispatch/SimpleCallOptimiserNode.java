@@ -4,7 +4,7 @@ import com.oracle.truffle.api.CompilerDirectives;
 import org.enso.interpreter.node.callable.ExecuteCallNode;
 import org.enso.interpreter.node.callable.ExecuteCallNodeGen;
 import org.enso.interpreter.runtime.callable.CallerInfo;
-import org.enso.interpreter.runtime.control.TailCallException;
+import org.enso.interpreter.runtime.control.TailCall;
 import org.enso.interpreter.runtime.state.Stateful;
 
 /**
@@ -28,14 +28,18 @@ public class SimpleCallOptimiserNode extends CallOptimiserNode {
   @Override
   public Stateful executeDispatch(
       Object function, CallerInfo callerInfo, Object state, Object[] arguments) {
-    try {
-      return executeCallNode.executeCall(function, callerInfo, state, arguments);
-    } catch (TailCallException e) {
+    Stateful result = executeCallNode.executeCall(function, callerInfo, state, arguments);
+    if (result instanceof TailCall) {
       CompilerDirectives.transferToInterpreterAndInvalidate();
+      TailCall tailCall = (TailCall) result;
       CallOptimiserNode replacement = new LoopingCallOptimiserNode();
       this.replace(replacement);
       return replacement.executeDispatch(
-          e.getFunction(), e.getCallerInfo(), e.getState(), e.getArguments());
+          tailCall.getFunction(),
+          tailCall.getCallerInfo(),
+          tailCall.getState(),
+          tailCall.getArguments());
     }
+    return result;
   }
 }
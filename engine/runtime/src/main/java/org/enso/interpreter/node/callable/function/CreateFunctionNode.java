@@ -1,21 +1,44 @@
 package org.enso.interpreter.node.callable.function;
 
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.FrameDescriptor;
+import com.oracle.truffle.api.frame.FrameSlot;
 import com.oracle.truffle.api.frame.MaterializedFrame;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
 import org.enso.interpreter.node.ClosureRootNode;
 import org.enso.interpreter.node.ExpressionNode;
+import org.enso.interpreter.node.scope.ReadLocalTargetNodeGen;
 import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
 import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+import org.enso.interpreter.runtime.scope.FramePointer;
+import org.enso.interpreter.runtime.scope.LocalScope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * This node is responsible for representing the definition of a function. It contains information
  * about the function's arguments, as well as the target for calling said function.
+ *
+ * <p>If the function has a closure environment, it is created along with the function. See Note
+ * [Closure Environments]. Lifted functions are only created once, see Note [Lifted Functions].
  */
 public class CreateFunctionNode extends ExpressionNode {
   private final RootCallTarget callTarget;
   private final FunctionSchema schema;
+  private final FrameDescriptor environmentDescriptor;
+  private @CompilationFinal(dimensions = 1) final FrameSlot[] capturedSlots;
+  private @Children final ExpressionNode[] capturedValues;
+  private final FrameSlot selfSlot;
+  private final boolean isLifted;
+  private final boolean linksEnclosingFrame;
+  private volatile @CompilationFinal Function liftedFunction;
 
   /**
    * Creates a new node to represent a function definition.
@@ -26,6 +49,53 @@ public class CreateFunctionNode extends ExpressionNode {
   public CreateFunctionNode(RootCallTarget callTarget, ArgumentDefinition[] args) {
     this.callTarget = callTarget;
     this.schema = new FunctionSchema(FunctionSchema.CallStrategy.CALL_LOOP, args);
+    this.environmentDescriptor = null;
+    this.capturedSlots = new FrameSlot[0];
+    this.capturedValues = new ExpressionNode[0];
+    this.selfSlot = null;
+    this.isLifted = false;
+    this.linksEnclosingFrame = true;
+  }
+
+  /**
+   * Creates a new node to represent a function definition, creating the function's closure
+   * environment along with it.
+   *
+   * @param callTarget the target for calling the function represented by this node
+   * @param args information on the arguments to the function
+   * @param environment the sealed closure environment of the function
+   * @param isLifted whether the function can be created once and shared between all executions of
+   *     this node
+   * @param linksEnclosingFrame whether the function reads any variables through the frame it is
+   *     created in, rather than from its environment
+   */
+  public CreateFunctionNode(
+      RootCallTarget callTarget,
+      ArgumentDefinition[] args,
+      LocalScope environment,
+      boolean isLifted,
+      boolean linksEnclosingFrame) {
+    this.callTarget = callTarget;
+    this.schema = new FunctionSchema(FunctionSchema.CallStrategy.CALL_LOOP, args);
+    this.environmentDescriptor = environment.hasFrame() ? environment.getFrameDescriptor() : null;
+    this.isLifted = isLifted;
+    this.linksEnclosingFrame = linksEnclosingFrame;
+
+    List<FrameSlot> slots = new ArrayList<>();
+    List<ExpressionNode> values = new ArrayList<>();
+    FrameSlot self = null;
+    for (Map.Entry<String, FramePointer> capture : environment.getCaptures().entrySet()) {
+      FrameSlot slot = environment.getFrameDescriptor().findFrameSlot(capture.getKey());
+      if (capture.getKey().equals(environment.getSelfName())) {
+        self = slot;
+      } else {
+        slots.add(slot);
+        values.add(ReadLocalTargetNodeGen.create(capture.getValue()));
+      }
+    }
+    this.capturedSlots = slots.toArray(new FrameSlot[0]);
+    this.capturedValues = values.toArray(new ExpressionNode[0]);
+    this.selfSlot = self;
   }
 
   /**
@@ -46,8 +116,53 @@ public class CreateFunctionNode extends ExpressionNode {
    */
   @Override
   public Function executeFunction(VirtualFrame frame) {
-    MaterializedFrame scope = frame.materialize();
-    return new Function(callTarget, scope, this.schema);
+    if (isLifted) {
+      Function function = liftedFunction;
+      if (function == null) {
+        CompilerDirectives.transferToInterpreterAndInvalidate();
+        function = publishLiftedFunction(createFunction(frame, null));
+      }
+      return function;
+    }
+    return createFunction(frame, linksEnclosingFrame ? frame.materialize() : null);
+  }
+
+  /**
+   * Publishes the lifted function, unless another thread has already published one.
+   *
+   * @param function the newly created lifted function
+   * @return the function shared by all executions of this node
+   */
+  @CompilerDirectives.TruffleBoundary
+  private synchronized Function publishLiftedFunction(Function function) {
+    if (liftedFunction == null) {
+      liftedFunction = function;
+    }
+    return liftedFunction;
+  }
+
+  private Function createFunction(VirtualFrame frame, MaterializedFrame scope) {
+    if (environmentDescriptor == null) {
+      return new Function(callTarget, scope, this.schema);
+    }
+    MaterializedFrame environment = createEnvironment(frame, scope);
+    Function function = new Function(callTarget, environment, this.schema);
+    if (selfSlot != null) {
+      environment.setObject(selfSlot, function);
+    }
+    return function;
+  }
+
+  @ExplodeLoop
+  private MaterializedFrame createEnvironment(VirtualFrame frame, MaterializedFrame scope) {
+    MaterializedFrame environment =
+        Truffle.getRuntime()
+            .createMaterializedFrame(
+                Function.ArgumentsHelper.buildEnvironmentArguments(scope), environmentDescriptor);
+    for (int i = 0; i < capturedSlots.length; i++) {
+      environment.setObject(capturedSlots[i], capturedValues[i].executeGeneric(frame));
+    }
+    return environment;
   }
 
   /**
@@ -78,4 +193,18 @@ public class CreateFunctionNode extends ExpressionNode {
   public ArgumentDefinition[] getArgs() {
     return schema.getArgumentInfos();
   }
+
+  /* Note [Lifted Functions]
+   * ~~~~~~~~~~~~~~~~~~~~~~~
+   * A local function that uses no variables of its enclosing scopes, other than itself, behaves
+   * the same no matter which execution of its definition created it. Such a function is lifted:
+   * it is created once, with no link to the frame it is defined in, and the same function is
+   * returned on every later execution of its definition. This saves allocating the closure and
+   * materializing the enclosing frame each time, and makes the function a constant for the calls
+   * that use it.
+   *
+   * Without the link to the enclosing frames, code evaluated dynamically inside the function could
+   * not see the variables of its enclosing scopes, so functions that may pass their frames to
+   * `Debug.eval` or `Debug.breakpoint` are never lifted.
+   */
 }
@@ -0,0 +1,56 @@
+package org.enso.interpreter.node.callable.function;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.node.ExpressionNode;
+
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+/**
+ * A stand-in for the body of a function, which builds the actual nodes of the body the first time
+ * it is executed and replaces itself with them.
+ *
+ * <p>See Note [Lazy Method Bodies] in {@link org.enso.interpreter.builder.ExpressionFactory}.
+ */
+@NodeInfo(shortName = "LazyBody", description = "Builds a function body on first execution.")
+public class LazyBodyNode extends ExpressionNode {
+  private final Supplier<ExpressionNode> builder;
+  private ExpressionNode body = null;
+
+  /**
+   * Creates a new lazy body.
+   *
+   * @param builder a function building the nodes of the body
+   */
+  public LazyBodyNode(Supplier<ExpressionNode> builder) {
+    this.builder = builder;
+  }
+
+  /**
+   * Builds the body, replaces this node with it and executes it.
+   *
+   * <p>Only one thread builds the body. Threads that started executing this node while it was
+   * being built execute the body built by that thread.
+   *
+   * @param frame the stack frame for execution
+   * @return the result of executing the body
+   */
+  @Override
+  public Object executeGeneric(VirtualFrame frame) {
+    CompilerDirectives.transferToInterpreterAndInvalidate();
+    Lock lock = getLock();
+    lock.lock();
+    try {
+      if (body == null) {
+        body = builder.get();
+        body.setTail(isTail());
+        replace(body);
+      }
+    } finally {
+      lock.unlock();
+    }
+    return body.executeGeneric(frame);
+  }
+}
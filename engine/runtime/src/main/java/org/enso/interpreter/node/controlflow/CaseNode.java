@@ -3,41 +3,21 @@ package org.enso.interpreter.node.controlflow;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.UnexpectedResultException;
 import org.enso.interpreter.node.BaseNode;
-import org.enso.interpreter.runtime.callable.atom.Atom;
-import org.enso.interpreter.runtime.callable.function.Function;
 
 /** An abstract representation of a case expression. */
 public abstract class CaseNode extends BaseNode {
-  /**
-   * Executes the case expression with an atom scrutinee.
-   *
-   * @param frame the stack frame in which to execute
-   * @param target the atom to match and destructure
-   * @throws UnexpectedResultException when the result of desctructuring {@code target} can't be
-   *     represented as a value of the expected return type
-   */
-  public abstract void executeAtom(VirtualFrame frame, Atom target)
-      throws UnexpectedResultException;
 
   /**
-   * Executes the case expression with a function scrutinee.
+   * Executes the branch of this case expression, once it has been selected for the scrutinee.
    *
-   * @param frame the stack frame in which to execute
-   * @param target the function to match
-   * @throws UnexpectedResultException when the result of desctructuring {@code target} can't be
-   *     represented as a value of the expected return type
-   */
-  public abstract void executeFunction(VirtualFrame frame, Function target)
-      throws UnexpectedResultException;
-
-  /**
-   * * Executes the case expression with a number scrutinee.
+   * <p>The resulting state of the branch is written back into the current frame, while its value
+   * is returned directly.
    *
    * @param frame the stack frame in which to execute
-   * @param target the number to match
-   * @throws UnexpectedResultException when the result of desctructuring {@code target} can't be
-   *     represented as a value of the expected return type
+   * @param target the scrutinee of the pattern match
+   * @return the result of executing the branch
+   * @throws UnexpectedResultException when the branch does not evaluate to a function
    */
-  public abstract void executeNumber(VirtualFrame frame, long target)
+  public abstract Object executeBranch(VirtualFrame frame, Object target)
       throws UnexpectedResultException;
 }
@@ -1,22 +1,33 @@
 package org.enso.interpreter.node.controlflow;
 
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.frame.FrameUtil;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.UnexpectedResultException;
 import com.oracle.truffle.api.profiles.ConditionProfile;
+import com.oracle.truffle.api.profiles.ValueProfile;
 import org.enso.interpreter.node.ExpressionNode;
 import org.enso.interpreter.node.callable.ExecuteCallNode;
 import org.enso.interpreter.node.callable.ExecuteCallNodeGen;
+import org.enso.interpreter.node.expression.constant.ConstructorNode;
 import org.enso.interpreter.runtime.callable.atom.Atom;
 import org.enso.interpreter.runtime.callable.atom.AtomConstructor;
+import org.enso.interpreter.runtime.callable.atom.AtomLayout;
 import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.state.Stateful;
 
 /** An implementation of the case expression specialised to working on constructors. */
 public class ConstructorCaseNode extends CaseNode {
+  private static final int UNKNOWN_ARITY = -1;
+
   @Child private ExpressionNode matcher;
   @Child private ExpressionNode branch;
   @Child private ExecuteCallNode executeCallNode = ExecuteCallNodeGen.create();
   private final ConditionProfile profile = ConditionProfile.createCountingProfile();
+  private final ValueProfile layoutProfile = ValueProfile.createClassProfile();
+  private @CompilationFinal int arity = UNKNOWN_ARITY;
 
   /**
    * Creates a new node for handling matching on a case expression.
@@ -40,50 +51,89 @@ public class ConstructorCaseNode extends CaseNode {
   }
 
   /**
-   * Handles the atom scrutinee case.
-   *
-   * <p>The atom's constructor is checked and if it matches the conditional branch is executed with
-   * all the atom's fields as arguments.
+   * Gets the constructor matched by this case, if it is known without executing the matcher.
    *
-   * @param frame the stack frame in which to execute
-   * @param target the atom to destructure
-   * @throws UnexpectedResultException
+   * @return the constructor matched by this case, or {@code null} if it is computed at runtime
    */
-  @Override
-  public void executeAtom(VirtualFrame frame, Atom target) throws UnexpectedResultException {
-    AtomConstructor matcherVal = matcher.executeAtomConstructor(frame);
-    Object state = FrameUtil.getObjectSafe(frame, getStateFrameSlot());
-    if (profile.profile(matcherVal == target.getConstructor())) {
-      Function function = branch.executeFunction(frame);
-      throw new BranchSelectedException(
-          executeCallNode.executeCall(
-              function, null, state, target.getFields())); // Note [Caller Info For Case Branches]
+  public AtomConstructor getConstantConstructor() {
+    if (matcher instanceof ConstructorNode) {
+      return ((ConstructorNode) matcher).getConstructor();
     }
+    return null;
   }
 
-  /* Note [Caller Info For Case Branches]
-   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+  /**
+   * Checks whether this case matches a given constructor.
    *
-   * It is assumed that functions serving as pattern match logic branches are always function
-   * literals, not references, curried functions etc. Therefore, as function literals, they
-   * have no way of accessing the caller frame and can safely be passed null.
+   * @param frame the stack frame in which to execute
+   * @param constructor the constructor of the scrutinee
+   * @return {@code true} if this case matches {@code constructor}, {@code false} otherwise
+   * @throws UnexpectedResultException when the matcher does not evaluate to a constructor
    */
+  public boolean matches(VirtualFrame frame, AtomConstructor constructor)
+      throws UnexpectedResultException {
+    return profile.profile(matcher.executeAtomConstructor(frame) == constructor);
+  }
 
   /**
-   * Handles the function scrutinee case, by not matching it at all.
+   * Executes the branch of this case, with all the atom's fields as arguments.
    *
    * @param frame the stack frame in which to execute
-   * @param target the function to match
+   * @param target the atom to destructure
+   * @return the result of executing the branch
+   * @throws UnexpectedResultException when the branch does not evaluate to a function
    */
   @Override
-  public void executeFunction(VirtualFrame frame, Function target) {}
+  public Object executeBranch(VirtualFrame frame, Object target)
+      throws UnexpectedResultException {
+    Function function = branch.executeFunction(frame);
+    Object state = FrameUtil.getObjectSafe(frame, getStateFrameSlot());
+    Stateful result =
+        executeCallNode.executeCall(
+            function,
+            null,
+            state,
+            readFields((Atom) target)); // Note [Caller Info For Case Branches]
+    frame.setObject(getStateFrameSlot(), result.getState());
+    return result.getValue();
+  }
 
   /**
-   * Handles the number scrutinee case, by not matching it at all.
+   * Reads the fields of the matched atom, to be passed as arguments to the branch.
    *
-   * @param frame the stack frame in which to execute
-   * @param target the function to match
+   * <p>The fields of atoms with fixed slots are read one by one through the profiled layout, so
+   * that no intermediate array is allocated by the atom. Nullary atoms and atoms of large arities
+   * store their fields in an array, which is passed on directly.
+   *
+   * @param target the matched atom
+   * @return the fields of {@code target}
+   */
+  @ExplodeLoop
+  private Object[] readFields(Atom target) {
+    Atom atom = layoutProfile.profile(target);
+    int fieldsCount = arity;
+    if (fieldsCount == UNKNOWN_ARITY) {
+      CompilerDirectives.transferToInterpreterAndInvalidate();
+      fieldsCount = atom.getArity();
+      arity = fieldsCount;
+    }
+    if (fieldsCount == 0
+        || fieldsCount > AtomLayout.MAX_FIXED_ARITY
+        || atom.getArity() != fieldsCount) {
+      return atom.getFields();
+    }
+    Object[] fields = new Object[fieldsCount];
+    for (int i = 0; i < fieldsCount; i++) {
+      fields[i] = atom.getField(i);
+    }
+    return fields;
+  }
+
+  /* Note [Caller Info For Case Branches]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *
+   * It is assumed that functions serving as pattern match logic branches are always function
+   * literals, not references, curried functions etc. Therefore, as function literals, they
+   * have no way of accessing the caller frame and can safely be passed null.
    */
-  @Override
-  public void executeNumber(VirtualFrame frame, long target) {}
 }
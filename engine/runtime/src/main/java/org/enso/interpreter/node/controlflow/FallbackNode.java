@@ -6,8 +6,8 @@ import com.oracle.truffle.api.nodes.UnexpectedResultException;
 import org.enso.interpreter.node.ExpressionNode;
 import org.enso.interpreter.node.callable.ExecuteCallNode;
 import org.enso.interpreter.node.callable.ExecuteCallNodeGen;
-import org.enso.interpreter.runtime.callable.atom.Atom;
 import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.state.Stateful;
 
 /**
  * This node represents an explicit catch-call case in a pattern match, as provided by the user. It
@@ -26,60 +26,33 @@ public class FallbackNode extends CaseNode {
     this.functionNode = functionNode;
   }
 
-  private void execute(VirtualFrame frame, Object target) throws UnexpectedResultException {
-    Function function = functionNode.executeFunction(frame);
-    Object state = FrameUtil.getObjectSafe(frame, getStateFrameSlot());
-    throw new BranchSelectedException(
-        executeCallNode.executeCall(
-            function, null, state, new Object[0])); // Note [Caller Info For Case Branches]
-  }
-
   /**
-   * Executes the case expression catch-all case.
+   * Sets whether or not the case expression is tail recursive.
    *
-   * <p>It has no direct return value and instead uses a {@link BranchSelectedException} to signal
-   * the correct result back to the parent of the case expression.
-   *
-   * @param frame the stack frame in which to execute
-   * @param target the constructor to destructure
-   * @throws UnexpectedResultException when the result of desctructuring {@code target} can't be
-   *     represented as a value of the expected return type
+   * @param isTail whether or not the case expression is tail-recursive
    */
   @Override
-  public void executeAtom(VirtualFrame frame, Atom target) throws UnexpectedResultException {
-    execute(frame, target);
+  public void setTail(boolean isTail) {
+    functionNode.setTail(isTail);
   }
 
   /**
    * Executes the case expression catch-all case.
    *
-   * <p>It has no direct return value and instead uses a {@link BranchSelectedException} to signal
-   * the correct result back to the parent of the case expression.
-   *
    * @param frame the stack frame in which to execute
-   * @param target the constructor to destructure
-   * @throws UnexpectedResultException when the result of desctructuring {@code target} can't be
-   *     represented as a value of the expected return type
+   * @param target the value that was not matched by any other case
+   * @return the result of executing the catch-all case
+   * @throws UnexpectedResultException when the catch-all case does not evaluate to a function
    */
   @Override
-  public void executeFunction(VirtualFrame frame, Function target)
+  public Object executeBranch(VirtualFrame frame, Object target)
       throws UnexpectedResultException {
-    execute(frame, target);
-  }
-
-  /**
-   * Executes the case expression catch-all case.
-   *
-   * <p>It has no direct return value and instead uses a {@link BranchSelectedException} to signal
-   * the correct result back to the parent of the case expression.
-   *
-   * @param frame the stack frame in which to execute
-   * @param target the constructor to destructure
-   * @throws UnexpectedResultException when the result of desctructuring {@code target} can't be
-   *     represented as a value of the expected return type
-   */
-  @Override
-  public void executeNumber(VirtualFrame frame, long target) throws UnexpectedResultException {
-    execute(frame, target);
+    Function function = functionNode.executeFunction(frame);
+    Object state = FrameUtil.getObjectSafe(frame, getStateFrameSlot());
+    Stateful result =
+        executeCallNode.executeCall(
+            function, null, state, new Object[0]); // Note [Caller Info For Case Branches]
+    frame.setObject(getStateFrameSlot(), result.getState());
+    return result.getValue();
   }
 }
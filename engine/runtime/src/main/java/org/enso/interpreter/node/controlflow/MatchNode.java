@@ -1,34 +1,57 @@
 package org.enso.interpreter.node.controlflow;
 
-import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.UnexpectedResultException;
 import com.oracle.truffle.api.profiles.BranchProfile;
+import org.enso.interpreter.Constants;
 import org.enso.interpreter.node.ExpressionNode;
 import org.enso.interpreter.runtime.callable.atom.Atom;
+import org.enso.interpreter.runtime.callable.atom.AtomConstructor;
 import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.data.EnsoMap;
+import org.enso.interpreter.runtime.data.Text;
+import org.enso.interpreter.runtime.data.Vector;
 import org.enso.interpreter.runtime.error.RuntimeError;
 import org.enso.interpreter.runtime.error.TypeError;
+import org.enso.interpreter.runtime.number.EnsoBigInteger;
 
 /**
  * A node representing a pattern match on an arbitrary runtime value.
  *
- * <p>Has a scrutinee node and a collection of {@link CaseNode}s. The case nodes get executed one by
- * one, until one throws an {@link BranchSelectedException}, the value of which becomes the result
- * of this pattern match.
+ * <p>Has a scrutinee node, a collection of {@link ConstructorCaseNode}s and a fallback {@link
+ * CaseNode}. The first case matching the scrutinee's constructor has its branch executed, and the
+ * result of that branch becomes the result of this pattern match. See Note [Pattern Match
+ * Dispatch].
  */
 @NodeChild(value = "scrutinee", type = ExpressionNode.class)
 public abstract class MatchNode extends ExpressionNode {
-  @Children private final CaseNode[] cases;
+  static final int FALLBACK_BRANCH = -1;
+
+  @Children private final ConstructorCaseNode[] cases;
   @Child private CaseNode fallback;
+  private final @CompilationFinal(dimensions = 1) AtomConstructor[] constantConstructors;
   private final BranchProfile typeErrorProfile = BranchProfile.create();
 
-  MatchNode(CaseNode[] cases, CaseNode fallback) {
+  MatchNode(ConstructorCaseNode[] cases, CaseNode fallback) {
     this.cases = cases;
     this.fallback = fallback;
+    this.constantConstructors = computeConstantConstructors(cases);
+  }
+
+  private static AtomConstructor[] computeConstantConstructors(ConstructorCaseNode[] cases) {
+    AtomConstructor[] constructors = new AtomConstructor[cases.length];
+    for (int i = 0; i < cases.length; i++) {
+      constructors[i] = cases[i].getConstantConstructor();
+      if (constructors[i] == null) {
+        return null;
+      }
+    }
+    return constructors;
   }
 
   /**
@@ -50,26 +73,19 @@ public abstract class MatchNode extends ExpressionNode {
     return error;
   }
 
-  // TODO[MK]: The atom, number and function cases are very repetitive and should be refactored.
-  // It poses some engineering challenge – the approaches tried so far included passing the only
-  // changing line as a lambda and introducing a separate node between this and the CaseNodes.
-  // Both attempts resulted in a performance drop.
-
-  @ExplodeLoop
-  @Specialization
-  Object doAtom(VirtualFrame frame, Atom atom) {
+  @Specialization(
+      guards = {"hasConstantConstructors()", "atom.getConstructor() == cachedConstructor"},
+      limit = Constants.CacheSizes.MATCH_NODE)
+  Object doAtomCached(
+      VirtualFrame frame,
+      Atom atom,
+      @Cached("atom.getConstructor()") AtomConstructor cachedConstructor,
+      @Cached("findBranch(cachedConstructor)") int branchIndex) {
     try {
-      for (CaseNode caseNode : cases) {
-        caseNode.executeAtom(frame, atom);
+      if (branchIndex == FALLBACK_BRANCH) {
+        return fallback.executeBranch(frame, atom);
       }
-      fallback.executeAtom(frame, atom);
-      CompilerDirectives.transferToInterpreter();
-      throw new RuntimeException("Impossible behavior.");
-
-    } catch (BranchSelectedException e) {
-      // Note [Branch Selection Control Flow]
-      frame.setObject(getStateFrameSlot(), e.getResult().getState());
-      return e.getResult().getValue();
+      return cases[branchIndex].executeBranch(frame, atom);
     } catch (UnexpectedResultException e) {
       typeErrorProfile.enter();
       throw new TypeError("Expected an Atom.", this);
@@ -77,58 +93,103 @@ public abstract class MatchNode extends ExpressionNode {
   }
 
   @ExplodeLoop
-  @Specialization
-  Object doFunction(VirtualFrame frame, Function function) {
+  @Specialization(replaces = "doAtomCached")
+  Object doAtom(VirtualFrame frame, Atom atom) {
+    AtomConstructor constructor = atom.getConstructor();
     try {
-      for (CaseNode caseNode : cases) {
-        caseNode.executeFunction(frame, function);
+      for (ConstructorCaseNode caseNode : cases) {
+        if (caseNode.matches(frame, constructor)) {
+          return caseNode.executeBranch(frame, atom);
+        }
       }
-      fallback.executeFunction(frame, function);
-      CompilerDirectives.transferToInterpreter();
-      throw new RuntimeException("Impossible behavior.");
-
-    } catch (BranchSelectedException e) {
-      // Note [Branch Selection Control Flow]
-      frame.setObject(getStateFrameSlot(), e.getResult().getState());
-      return e.getResult().getValue();
+      return fallback.executeBranch(frame, atom);
     } catch (UnexpectedResultException e) {
       typeErrorProfile.enter();
       throw new TypeError("Expected an Atom.", this);
     }
   }
 
-  @ExplodeLoop
+  @Specialization
+  Object doFunction(VirtualFrame frame, Function function) {
+    return executeFallback(frame, function);
+  }
+
   @Specialization
   Object doNumber(VirtualFrame frame, long number) {
-    try {
+    return executeFallback(frame, number);
+  }
 
-      for (CaseNode caseNode : cases) {
-        caseNode.executeNumber(frame, number);
-      }
-      fallback.executeNumber(frame, number);
-      CompilerDirectives.transferToInterpreter();
-      throw new RuntimeException("Impossible behavior.");
-
-    } catch (BranchSelectedException e) {
-      // Note [Branch Selection Control Flow]
-      frame.setObject(getStateFrameSlot(), e.getResult().getState());
-      return e.getResult().getValue();
+  @Specialization
+  Object doDecimal(VirtualFrame frame, double number) {
+    return executeFallback(frame, number);
+  }
+
+  @Specialization
+  Object doBigInteger(VirtualFrame frame, EnsoBigInteger number) {
+    return executeFallback(frame, number);
+  }
+
+  @Specialization
+  Object doVector(VirtualFrame frame, Vector vector) {
+    return executeFallback(frame, vector);
+  }
+
+  @Specialization
+  Object doText(VirtualFrame frame, Text text) {
+    return executeFallback(frame, text);
+  }
+
+  @Specialization
+  Object doMap(VirtualFrame frame, EnsoMap map) {
+    return executeFallback(frame, map);
+  }
+
+  private Object executeFallback(VirtualFrame frame, Object target) {
+    try {
+      return fallback.executeBranch(frame, target);
     } catch (UnexpectedResultException e) {
       typeErrorProfile.enter();
       throw new TypeError("Expected an Atom.", this);
     }
   }
 
-  /* Note [Branch Selection Control Flow]
-   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-   * Truffle provides no easy way to return control flow from multiple paths. This is entirely due
-   * to Java's (current) lack of support for case-expressions.
+  /**
+   * Checks whether all the cases match on constructors known ahead of execution.
+   *
+   * @return {@code true} if all the matched constructors are constant, {@code false} otherwise
+   */
+  boolean hasConstantConstructors() {
+    return constantConstructors != null;
+  }
+
+  /**
+   * Finds the index of the case matching a given constructor.
+   *
+   * @param constructor the constructor of the scrutinee
+   * @return the index of the first case matching {@code constructor}, or {@link #FALLBACK_BRANCH}
+   *     if there is none
+   */
+  int findBranch(AtomConstructor constructor) {
+    for (int i = 0; i < constantConstructors.length; i++) {
+      if (constantConstructors[i] == constructor) {
+        return i;
+      }
+    }
+    return FALLBACK_BRANCH;
+  }
+
+  /* Note [Pattern Match Dispatch]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * In the vast majority of pattern matches, all the cases refer to constructors directly, so the
+   * branch to take depends solely on the identity of the scrutinee's constructor. In that case,
+   * the node keeps an inline cache from constructors to branch indices. Every cached entry compiles
+   * to a single identity check followed by the selected branch, regardless of the number of cases
+   * in the match or the position of the branch among them.
    *
-   * As a result, this implementation resorts to using an exception to short-circuit evaluation on
-   * a successful match. This short-circuiting also allows us to hand the result of evaluation back
-   * out to the caller (here) wrapped in the exception.
+   * When the cases use computed matchers, or there are too many constructors seen at a single
+   * match, the node falls back to trying the cases in order.
    *
-   * The main alternative to this was desugaring to a nested-if, which would've been significantly
-   * harder to maintain, and also resulted in significantly higher code complexity.
+   * In both cases the selected branch writes its resulting state to the frame and returns its
+   * value directly, so that no exception is thrown, nor any intermediate result is allocated.
    */
 }
@@ -3,23 +3,73 @@ package org.enso.interpreter.node.expression.builtin;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.NodeInfo;
 import com.oracle.truffle.api.nodes.RootNode;
+import com.oracle.truffle.api.profiles.BranchProfile;
 import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.error.InvalidIndexException;
+import org.enso.interpreter.runtime.error.TypeError;
 import org.enso.interpreter.runtime.state.Stateful;
+import org.enso.interpreter.runtime.type.TypesGen;
 
 /** Root node for use by all the builtin functions. */
 @NodeInfo(description = "Root node for builtin functions.")
 public abstract class BuiltinRootNode extends RootNode {
+  private final BranchProfile argumentErrorProfile = BranchProfile.create();
+
   protected BuiltinRootNode(Language language) {
     super(language);
   }
 
   /**
-   * Executes this node's logic, returning a pair of return value and the new state.
+   * Executes this node's logic, returning the result value, paired with the new state if it was
+   * modified. See Note [Stateful Call Results].
    *
    * @param frame current execution frame
-   * @return the {@link Stateful} instance containing new state and the result value of executing
-   *     the logic.
+   * @return the result value of executing the logic, or a {@link Stateful} instance containing the
+   *     new state and the result value if the state was modified
    */
   @Override
-  public abstract Stateful execute(VirtualFrame frame);
+  public abstract Object execute(VirtualFrame frame);
+
+  /**
+   * Checks that an argument is an integer.
+   *
+   * @param value the argument to check
+   * @return {@code value} as a {@code long}
+   * @throws TypeError when {@code value} is not an integer
+   */
+  protected long expectLong(Object value) {
+    if (TypesGen.isLong(value)) {
+      return TypesGen.asLong(value);
+    }
+    throw typeError("Expected an integer.");
+  }
+
+  /**
+   * Checks that an index lies within given bounds.
+   *
+   * @param index the index to check
+   * @param min the smallest allowed index, inclusive
+   * @param max the largest allowed index, inclusive
+   * @param length the length of the accessed collection, for error reporting
+   * @return {@code index} as an {@code int}
+   * @throws InvalidIndexException when {@code index} is outside of the bounds
+   */
+  protected int checkIndex(long index, int min, int max, int length) {
+    if (index >= min && index <= max) {
+      return (int) index;
+    }
+    argumentErrorProfile.enter();
+    throw new InvalidIndexException(index, length, this);
+  }
+
+  /**
+   * Creates an error for an argument of an unexpected type.
+   *
+   * @param message the error message
+   * @return the error to throw
+   */
+  protected TypeError typeError(String message) {
+    argumentErrorProfile.enter();
+    return new TypeError(message, this);
+  }
 }
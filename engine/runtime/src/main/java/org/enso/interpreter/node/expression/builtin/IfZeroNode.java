@@ -6,10 +6,8 @@ import com.oracle.truffle.api.profiles.ConditionProfile;
 import org.enso.interpreter.Language;
 import org.enso.interpreter.node.callable.argument.ThunkExecutorNode;
 import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
-import org.enso.interpreter.runtime.callable.argument.Thunk;
 import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.callable.function.FunctionSchema;
-import org.enso.interpreter.runtime.state.Stateful;
 import org.enso.interpreter.runtime.type.TypesGen;
 
 /** The root node for the basic control flow structure of the language. */
@@ -34,18 +32,19 @@ public class IfZeroNode extends BuiltinRootNode {
    * @return the result of executing the proper thunk
    */
   @Override
-  public Stateful execute(VirtualFrame frame) {
-    long self =
-        TypesGen.asLong(Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[0]);
-    Thunk ifT =
-        TypesGen.asThunk(Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[1]);
-    Thunk ifF =
-        TypesGen.asThunk(Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[2]);
+  public Object execute(VirtualFrame frame) {
+    Object self = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[0];
+    Object ifT = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[1];
+    Object ifF = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[2];
     Object state = Function.ArgumentsHelper.getState(frame.getArguments());
-    if (condProfile.profile(self == 0)) {
-      return leftThunkExecutorNode.executeThunk(ifT, state);
+    boolean isZero =
+        TypesGen.isLong(self)
+            ? TypesGen.asLong(self) == 0
+            : TypesGen.isDouble(self) && TypesGen.asDouble(self) == 0;
+    if (condProfile.profile(isZero)) {
+      return leftThunkExecutorNode.executeThunk(ifT, state).toCallResult(state);
     } else {
-      return rightThunkExecutorNode.executeThunk(ifF, state);
+      return rightThunkExecutorNode.executeThunk(ifF, state).toCallResult(state);
     }
   }
 
@@ -0,0 +1,112 @@
+package org.enso.interpreter.node.expression.builtin;
+
+import com.oracle.truffle.api.frame.FrameDescriptor;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotKind;
+import com.oracle.truffle.api.frame.FrameUtil;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.RepeatingNode;
+import org.enso.interpreter.node.callable.InvokeCallableNode;
+import org.enso.interpreter.runtime.callable.argument.CallArgumentInfo;
+import org.enso.interpreter.runtime.state.Stateful;
+
+/**
+ * The body of a loop calling a function once for each index of a collection, to be used by
+ * builtins in a Truffle {@link com.oracle.truffle.api.nodes.LoopNode} so that long loops can be
+ * compiled on-stack.
+ *
+ * <p>The loop keeps its index and the current state in slots of the frame it is executed in, and
+ * threads the state through all the calls.
+ */
+public abstract class IndexedLoopBodyNode extends Node implements RepeatingNode {
+  private final FrameSlot indexSlot;
+  private final FrameSlot lengthSlot;
+  private final FrameSlot stateSlot;
+  private @Child InvokeCallableNode invokeCallableNode;
+
+  /**
+   * Creates a new loop body.
+   *
+   * @param descriptor the descriptor of the frame the loop is executed in
+   * @param arity the number of arguments the function is called with
+   */
+  protected IndexedLoopBodyNode(FrameDescriptor descriptor, int arity) {
+    indexSlot = descriptor.findOrAddFrameSlot("<Loop Index>", FrameSlotKind.Long);
+    lengthSlot = descriptor.findOrAddFrameSlot("<Loop Length>", FrameSlotKind.Long);
+    stateSlot = descriptor.findOrAddFrameSlot("<Loop State>", FrameSlotKind.Object);
+    CallArgumentInfo[] arguments = new CallArgumentInfo[arity];
+    for (int i = 0; i < arity; i++) {
+      arguments[i] = new CallArgumentInfo();
+    }
+    invokeCallableNode =
+        InvokeCallableNode.build(
+            arguments,
+            InvokeCallableNode.DefaultsExecutionMode.EXECUTE,
+            InvokeCallableNode.ArgumentsExecutionMode.PRE_EXECUTED);
+  }
+
+  /**
+   * Prepares {@code frame} for running the loop.
+   *
+   * @param frame the frame the loop will be executed in
+   * @param length the number of iterations to run
+   * @param state the state to start the loop with
+   */
+  public void start(VirtualFrame frame, int length, Object state) {
+    frame.setLong(indexSlot, 0);
+    frame.setLong(lengthSlot, length);
+    frame.setObject(stateSlot, state);
+  }
+
+  /**
+   * Gets the state at the end of the loop.
+   *
+   * @param frame the frame the loop was executed in
+   * @return the state returned by the last call made by the loop
+   */
+  public Object getState(VirtualFrame frame) {
+    return FrameUtil.getObjectSafe(frame, stateSlot);
+  }
+
+  /**
+   * Calls a function, with the current state.
+   *
+   * @param frame the frame the loop is executed in
+   * @param function the function to call
+   * @param state the state to call the function with
+   * @param arguments the arguments to call the function with
+   * @return the result of the call
+   */
+  protected Stateful call(VirtualFrame frame, Object function, Object state, Object[] arguments) {
+    return invokeCallableNode.execute(function, frame, state, arguments);
+  }
+
+  /**
+   * Executes the iteration for a given index.
+   *
+   * @param frame the frame the loop is executed in
+   * @param index the index of the current iteration
+   * @param state the state to execute the iteration with
+   * @return the new state
+   */
+  protected abstract Object executeIteration(VirtualFrame frame, int index, Object state);
+
+  /**
+   * Executes a single iteration of the loop.
+   *
+   * @param frame the frame the loop is executed in
+   * @return {@code true} if there are more iterations to execute, {@code false} otherwise
+   */
+  @Override
+  public boolean executeRepeating(VirtualFrame frame) {
+    long index = FrameUtil.getLongSafe(frame, indexSlot);
+    if (index >= FrameUtil.getLongSafe(frame, lengthSlot)) {
+      return false;
+    }
+    Object state = FrameUtil.getObjectSafe(frame, stateSlot);
+    frame.setObject(stateSlot, executeIteration(frame, (int) index, state));
+    frame.setLong(indexSlot, index + 1);
+    return true;
+  }
+}
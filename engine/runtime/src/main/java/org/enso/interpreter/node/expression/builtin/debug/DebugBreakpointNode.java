@@ -9,7 +9,6 @@ import org.enso.interpreter.node.expression.debug.BreakpointNode;
 import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
 import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.callable.function.FunctionSchema;
-import org.enso.interpreter.runtime.state.Stateful;
 
 /** Root of the builtin Debug.breakpoint function. */
 @NodeInfo(
@@ -29,9 +28,9 @@ public class DebugBreakpointNode extends BuiltinRootNode {
    * @return the result of running the instrumentable node
    */
   @Override
-  public Stateful execute(VirtualFrame frame) {
+  public Object execute(VirtualFrame frame) {
     Object state = Function.ArgumentsHelper.getState(frame.getArguments());
-    return instrumentableNode.execute(frame, state);
+    return instrumentableNode.execute(frame, state).toCallResult(state);
   }
 
   /**
@@ -9,7 +9,7 @@ import org.enso.interpreter.runtime.callable.CallerInfo;
 import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
 import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.callable.function.FunctionSchema;
-import org.enso.interpreter.runtime.state.Stateful;
+import org.enso.interpreter.runtime.type.TypesGen;
 
 /** Root node for the builtin Debug.eval function. */
 @NodeInfo(shortName = "Debug.eval", description = "Root node for the builtin Debug.eval function")
@@ -32,11 +32,15 @@ public class DebugEvalNode extends BuiltinRootNode {
    * @return
    */
   @Override
-  public Stateful execute(VirtualFrame frame) {
+  public Object execute(VirtualFrame frame) {
     CallerInfo callerInfo = Function.ArgumentsHelper.getCallerInfo(frame.getArguments());
     Object state = Function.ArgumentsHelper.getState(frame.getArguments());
-    String code = (String) Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[1];
-    return evalNode.execute(callerInfo, state, code);
+    Object expression = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[1];
+    String code =
+        TypesGen.isText(expression)
+            ? TypesGen.asText(expression).toString()
+            : (String) expression;
+    return evalNode.execute(callerInfo, state, code).toCallResult(state);
   }
 
   /**
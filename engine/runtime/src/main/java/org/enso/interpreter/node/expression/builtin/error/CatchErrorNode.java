@@ -13,7 +13,6 @@ import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.callable.function.FunctionSchema;
 import org.enso.interpreter.runtime.scope.LocalScope;
 import org.enso.interpreter.runtime.scope.ModuleScope;
-import org.enso.interpreter.runtime.state.Stateful;
 import org.enso.interpreter.runtime.type.TypesGen;
 
 /** Root node for the {@code catch} function. */
@@ -41,16 +40,21 @@ public class CatchErrorNode extends BuiltinRootNode {
    * @return the result of calling the handler function
    */
   @Override
-  public Stateful execute(VirtualFrame frame) {
+  public Object execute(VirtualFrame frame) {
     Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
     Object state = Function.ArgumentsHelper.getState(frame.getArguments());
     Object scrutinee = arguments[0];
     Object handler = arguments[1];
     if (executionProfile.profile(TypesGen.isRuntimeError(scrutinee))) {
-      return invokeCallableNode.execute(
-          handler, frame, state, new Object[] {TypesGen.asRuntimeError(scrutinee).getPayload()});
+      return invokeCallableNode
+          .execute(
+              handler,
+              frame,
+              state,
+              new Object[] {TypesGen.asRuntimeError(scrutinee).getPayload()})
+          .toCallResult(state);
     } else {
-      return new Stateful(state, scrutinee);
+      return scrutinee;
     }
   }
 
@@ -10,7 +10,6 @@ import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.callable.function.FunctionSchema;
 import org.enso.interpreter.runtime.error.PanicException;
 import org.enso.interpreter.runtime.error.RuntimeError;
-import org.enso.interpreter.runtime.state.Stateful;
 import org.enso.interpreter.runtime.type.TypesGen;
 
 /** Root node for the builtin catch panic function. */
@@ -34,17 +33,19 @@ public class CatchPanicNode extends BuiltinRootNode {
    * @return the result of the computation if it didn't throw, or a {@link RuntimeError} containing
    *     the thrown panic's payload.
    */
-  public Stateful execute(VirtualFrame frame) {
+  public Object execute(VirtualFrame frame) {
     Object maybeThunk = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[1];
     Object state = Function.ArgumentsHelper.getState(frame.getArguments());
     if (TypesGen.isThunk(maybeThunk)) {
       try {
-        return thunkExecutorNode.executeThunk(TypesGen.asThunk(maybeThunk), state);
+        return thunkExecutorNode
+            .executeThunk(TypesGen.asThunk(maybeThunk), state)
+            .toCallResult(state);
       } catch (PanicException e) {
-        return new Stateful(state, new RuntimeError(e.getExceptionObject()));
+        return new RuntimeError(e.getExceptionObject());
       }
     } else {
-      return new Stateful(state, maybeThunk);
+      return maybeThunk;
     }
   }
 
@@ -8,7 +8,6 @@ import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
 import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.callable.function.FunctionSchema;
 import org.enso.interpreter.runtime.error.PanicException;
-import org.enso.interpreter.runtime.state.Stateful;
 
 /** Root node for the builtin panic function. */
 @NodeInfo(shortName = "Panic.throw", description = "Root node for the builtin panic function.")
@@ -26,7 +25,7 @@ public class PanicNode extends BuiltinRootNode {
    * @param frame current execution frame
    * @return never returns, always throws an exception
    */
-  public Stateful execute(VirtualFrame frame) {
+  public Object execute(VirtualFrame frame) {
     Object payload = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[1];
     throw new PanicException(payload, this);
   }
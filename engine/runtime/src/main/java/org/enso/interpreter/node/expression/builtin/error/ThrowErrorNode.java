@@ -8,7 +8,6 @@ import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
 import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.callable.function.FunctionSchema;
 import org.enso.interpreter.runtime.error.RuntimeError;
-import org.enso.interpreter.runtime.state.Stateful;
 
 /** Root node for the builtin throw error function. */
 @NodeInfo(
@@ -30,10 +29,9 @@ public class ThrowErrorNode extends BuiltinRootNode {
    * @return a runtime error wrapped argument
    */
   @Override
-  public Stateful execute(VirtualFrame frame) {
+  public Object execute(VirtualFrame frame) {
     Object errorPayload = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[1];
-    Object state = Function.ArgumentsHelper.getState(frame.getArguments());
-    return new Stateful(state, new RuntimeError(errorPayload));
+    return new RuntimeError(errorPayload);
   }
 
   /**
@@ -11,7 +11,6 @@ import org.enso.interpreter.runtime.Context;
 import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
 import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.callable.function.FunctionSchema;
-import org.enso.interpreter.runtime.state.Stateful;
 
 import java.io.PrintStream;
 
@@ -23,11 +22,9 @@ public abstract class PrintNode extends BuiltinRootNode {
   }
 
   @Specialization
-  Stateful doPrint(VirtualFrame frame, @CachedContext(Language.class) Context ctx) {
+  Object doPrint(VirtualFrame frame, @CachedContext(Language.class) Context ctx) {
     doPrint(ctx.getOut(), Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[1]);
-    Object state = Function.ArgumentsHelper.getState(frame.getArguments());
-
-    return new Stateful(state, ctx.getUnit().newInstance());
+    return ctx.getUnit().newInstance();
   }
 
   @CompilerDirectives.TruffleBoundary
@@ -0,0 +1,41 @@
+package org.enso.interpreter.node.expression.builtin.map;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+import org.enso.interpreter.runtime.data.EnsoMap;
+
+/** Root node for the {@code Map.empty} function. */
+@NodeInfo(shortName = "Map.empty", description = "Root node for the empty map function.")
+public class EmptyMapNode extends MapBuiltinNode {
+  private EmptyMapNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Returns the map with no entries.
+   *
+   * @param frame current execution frame
+   * @return an empty map
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    return EnsoMap.empty();
+  }
+
+  /**
+   * Creates a single-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new EmptyMapNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
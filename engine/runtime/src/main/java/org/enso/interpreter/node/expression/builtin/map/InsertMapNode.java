@@ -0,0 +1,47 @@
+package org.enso.interpreter.node.expression.builtin.map;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+
+/** Root node for the {@code Map.insert} function. */
+@NodeInfo(shortName = "Map.insert", description = "Root node for the map insertion function.")
+public class InsertMapNode extends MapBuiltinNode {
+  private InsertMapNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Associates the value given as the third argument with the key given as the second argument,
+   * in the map given as the first argument.
+   *
+   * <p>The map itself is left unchanged, and shares all the entries but the inserted one with the
+   * result.
+   *
+   * @param frame current execution frame
+   * @return a map with the new entry
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    return expectMap(arguments[0]).insert(arguments[1], arguments[2]);
+  }
+
+  /**
+   * Creates a three-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new InsertMapNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(1, "key", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(2, "value", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
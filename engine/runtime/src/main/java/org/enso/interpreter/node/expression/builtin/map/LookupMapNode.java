@@ -0,0 +1,44 @@
+package org.enso.interpreter.node.expression.builtin.map;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+
+/** Root node for the {@code Map.lookup} function. */
+@NodeInfo(shortName = "Map.lookup", description = "Root node for the map lookup function.")
+public class LookupMapNode extends MapBuiltinNode {
+  private LookupMapNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Looks up the key given as the second argument in the map given as the first argument.
+   *
+   * @param frame current execution frame
+   * @return the value associated with the key, or the third argument if there is none
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    Object value = expectMap(arguments[0]).lookup(arguments[1]);
+    return value == null ? arguments[2] : value;
+  }
+
+  /**
+   * Creates a three-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new LookupMapNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(1, "key", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(2, "default", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
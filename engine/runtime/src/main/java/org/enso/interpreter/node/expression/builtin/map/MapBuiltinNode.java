@@ -0,0 +1,30 @@
+package org.enso.interpreter.node.expression.builtin.map;
+
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.node.expression.builtin.BuiltinRootNode;
+import org.enso.interpreter.runtime.data.EnsoMap;
+import org.enso.interpreter.runtime.error.TypeError;
+import org.enso.interpreter.runtime.type.TypesGen;
+
+/** A base class for the builtin functions operating on maps. */
+@NodeInfo(description = "Root node for map builtin functions.")
+public abstract class MapBuiltinNode extends BuiltinRootNode {
+  MapBuiltinNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Checks that an argument is a map.
+   *
+   * @param value the argument to check
+   * @return {@code value} as a map
+   * @throws TypeError when {@code value} is not a map
+   */
+  EnsoMap expectMap(Object value) {
+    if (TypesGen.isEnsoMap(value)) {
+      return TypesGen.asEnsoMap(value);
+    }
+    throw typeError("Expected a Map.");
+  }
+}
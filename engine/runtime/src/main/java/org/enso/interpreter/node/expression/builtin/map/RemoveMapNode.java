@@ -0,0 +1,44 @@
+package org.enso.interpreter.node.expression.builtin.map;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+
+/** Root node for the {@code Map.remove} function. */
+@NodeInfo(shortName = "Map.remove", description = "Root node for the map removal function.")
+public class RemoveMapNode extends MapBuiltinNode {
+  private RemoveMapNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Removes the key given as the second argument from the map given as the first argument.
+   *
+   * <p>The map itself is left unchanged.
+   *
+   * @param frame current execution frame
+   * @return a map without an entry for the key
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    return expectMap(arguments[0]).remove(arguments[1]);
+  }
+
+  /**
+   * Creates a two-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new RemoveMapNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(1, "key", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
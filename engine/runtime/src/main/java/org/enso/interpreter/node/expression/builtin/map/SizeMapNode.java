@@ -0,0 +1,41 @@
+package org.enso.interpreter.node.expression.builtin.map;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+
+/** Root node for the {@code Map.size} function. */
+@NodeInfo(shortName = "Map.size", description = "Root node for the map size function.")
+public class SizeMapNode extends MapBuiltinNode {
+  private SizeMapNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Returns the number of entries in the map given as the first argument.
+   *
+   * @param frame current execution frame
+   * @return the size of the map
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    return (long) expectMap(arguments[0]).size();
+  }
+
+  /**
+   * Creates a single-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new SizeMapNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
@@ -0,0 +1,81 @@
+package org.enso.interpreter.node.expression.builtin.parallel;
+
+import com.oracle.truffle.api.CallTarget;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.nodes.RootNode;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.node.callable.argument.ThunkExecutorNode;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+import org.enso.interpreter.runtime.data.VectorBuilder;
+
+/** Root node for the {@code Parallel.both} function. */
+@NodeInfo(shortName = "Parallel.both", description = "Root node for the parallel both function.")
+public class BothParallelNode extends ParallelBuiltinNode {
+  private final CallTarget forceCallTarget;
+
+  private BothParallelNode(Language language) {
+    super(language);
+    forceCallTarget = Truffle.getRuntime().createCallTarget(new ForceRootNode(language));
+  }
+
+  /**
+   * Evaluates the suspended computations given as the second and third arguments in parallel.
+   *
+   * <p>Each computation starts with the current state, and the changes it makes to the state are
+   * discarded. See Note [Parallel Evaluation] in {@link ParallelBuiltinNode}.
+   *
+   * @param frame current execution frame
+   * @return a vector of the results of both computations
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    Object state = Function.ArgumentsHelper.getState(frame.getArguments());
+    Object[][] calls = {new Object[] {arguments[1], state}, new Object[] {arguments[2], state}};
+    Object[] results = callInParallel(forceCallTarget, calls);
+    VectorBuilder builder = new VectorBuilder(2);
+    builder.add(results[0]);
+    builder.add(results[1]);
+    return builder.build();
+  }
+
+  /** The root of a single computation, taking the suspended computation and the state. */
+  private static final class ForceRootNode extends RootNode {
+    private @Child ThunkExecutorNode thunkExecutorNode = ThunkExecutorNode.build(false);
+
+    private ForceRootNode(Language language) {
+      super(language);
+    }
+
+    /**
+     * Forces the suspended computation.
+     *
+     * @param frame current execution frame
+     * @return the result of the computation
+     */
+    @Override
+    public Object execute(VirtualFrame frame) {
+      Object[] arguments = frame.getArguments();
+      return thunkExecutorNode.executeThunk(arguments[0], arguments[1]).getValue();
+    }
+  }
+
+  /**
+   * Creates a three-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new BothParallelNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(1, "first", ArgumentDefinition.ExecutionMode.PASS_THUNK),
+        new ArgumentDefinition(2, "second", ArgumentDefinition.ExecutionMode.PASS_THUNK));
+  }
+}
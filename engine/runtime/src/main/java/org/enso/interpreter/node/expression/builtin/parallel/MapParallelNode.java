@@ -0,0 +1,103 @@
+package org.enso.interpreter.node.expression.builtin.parallel;
+
+import com.oracle.truffle.api.CallTarget;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.nodes.RootNode;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.node.callable.InvokeCallableNode;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.argument.CallArgumentInfo;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+import org.enso.interpreter.runtime.data.Vector;
+import org.enso.interpreter.runtime.data.VectorBuilder;
+import org.enso.interpreter.runtime.type.TypesGen;
+
+/** Root node for the {@code Parallel.map} function. */
+@NodeInfo(shortName = "Parallel.map", description = "Root node for the parallel map function.")
+public class MapParallelNode extends ParallelBuiltinNode {
+  private final CallTarget applyCallTarget;
+
+  private MapParallelNode(Language language) {
+    super(language);
+    applyCallTarget = Truffle.getRuntime().createCallTarget(new ApplyRootNode(language));
+  }
+
+  /**
+   * Applies the function given as the third argument to each element of the vector given as the
+   * second argument, in parallel.
+   *
+   * <p>Each application starts with the current state, and the changes it makes to the state are
+   * discarded. See Note [Parallel Evaluation] in {@link ParallelBuiltinNode}.
+   *
+   * @param frame current execution frame
+   * @return a vector of the results of the function, in the order of the elements
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    Object state = Function.ArgumentsHelper.getState(frame.getArguments());
+    Vector vector = expectVector(arguments[1]);
+    Object[][] calls = new Object[vector.length()][];
+    for (int i = 0; i < calls.length; i++) {
+      calls[i] = new Object[] {arguments[2], state, vector.readAt(vector.getStorage(), i)};
+    }
+    Object[] results = callInParallel(applyCallTarget, calls);
+    VectorBuilder builder = new VectorBuilder(results.length);
+    for (Object result : results) {
+      builder.add(result);
+    }
+    return builder.build();
+  }
+
+  private Vector expectVector(Object value) {
+    if (TypesGen.isVector(value)) {
+      return TypesGen.asVector(value);
+    }
+    throw typeError("Expected a Vector.");
+  }
+
+  /** The root of a single application, taking the function, the state and the element. */
+  private static final class ApplyRootNode extends RootNode {
+    private @Child InvokeCallableNode invokeCallableNode =
+        InvokeCallableNode.build(
+            new CallArgumentInfo[] {new CallArgumentInfo()},
+            InvokeCallableNode.DefaultsExecutionMode.EXECUTE,
+            InvokeCallableNode.ArgumentsExecutionMode.PRE_EXECUTED);
+
+    private ApplyRootNode(Language language) {
+      super(language);
+    }
+
+    /**
+     * Applies the function to the element.
+     *
+     * @param frame current execution frame
+     * @return the result of the function
+     */
+    @Override
+    public Object execute(VirtualFrame frame) {
+      Object[] arguments = frame.getArguments();
+      return invokeCallableNode
+          .execute(arguments[0], frame, arguments[1], new Object[] {arguments[2]})
+          .getValue();
+    }
+  }
+
+  /**
+   * Creates a three-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new MapParallelNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(1, "vector", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(2, "function", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
@@ -0,0 +1,136 @@
+package org.enso.interpreter.node.expression.builtin.parallel;
+
+import com.oracle.truffle.api.CallTarget;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.TruffleContext;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.node.expression.builtin.BuiltinRootNode;
+import org.enso.interpreter.runtime.Context;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/** A base class for the builtin functions evaluating Enso code in parallel. */
+@NodeInfo(description = "Root node for parallel builtin functions.")
+public abstract class ParallelBuiltinNode extends BuiltinRootNode {
+  private static final int TASKS_PER_THREAD = 4;
+
+  ParallelBuiltinNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Calls a call target once for each of the given arrays of arguments, spreading the calls over
+   * the thread pool of the current context. See Note [Parallel Evaluation].
+   *
+   * @param callTarget the call target to call
+   * @param arguments the arguments of each call
+   * @return the results of the calls, in the order of {@code arguments}
+   */
+  @CompilerDirectives.TruffleBoundary
+  Object[] callInParallel(CallTarget callTarget, Object[][] arguments) {
+    Context context = lookupContextReference(Language.class).get();
+    ForkJoinPool pool = context.getThreadPool();
+    TruffleContext truffleContext = context.getEnvironment().getContext();
+    Object[] results = new Object[arguments.length];
+    int taskCount = Math.min(arguments.length, pool.getParallelism() * TASKS_PER_THREAD);
+    CallTask[] tasks = new CallTask[taskCount];
+    for (int i = 0; i < taskCount; i++) {
+      int start = (int) ((long) arguments.length * i / taskCount);
+      int end = (int) ((long) arguments.length * (i + 1) / taskCount);
+      tasks[i] = new CallTask(truffleContext, callTarget, arguments, results, start, end);
+    }
+    if (ForkJoinTask.getPool() == pool) {
+      ForkJoinTask.invokeAll(tasks);
+    } else {
+      pool.invoke(new InvokeAllTask(tasks));
+    }
+    for (CallTask task : tasks) {
+      task.rethrowError();
+    }
+    return results;
+  }
+
+  /** A task making some of the calls, on a thread entered into the Enso context. */
+  private static final class CallTask extends RecursiveAction {
+    private final TruffleContext truffleContext;
+    private final CallTarget callTarget;
+    private final Object[][] arguments;
+    private final Object[] results;
+    private final int start;
+    private final int end;
+    private Throwable error = null;
+
+    private CallTask(
+        TruffleContext truffleContext,
+        CallTarget callTarget,
+        Object[][] arguments,
+        Object[] results,
+        int start,
+        int end) {
+      this.truffleContext = truffleContext;
+      this.callTarget = callTarget;
+      this.arguments = arguments;
+      this.results = results;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      Object previousContext = truffleContext.enter();
+      try {
+        for (int i = start; i < end; i++) {
+          results[i] = callTarget.call(arguments[i]);
+        }
+      } catch (Throwable e) {
+        error = e;
+      } finally {
+        truffleContext.leave(previousContext);
+      }
+    }
+
+    private void rethrowError() {
+      if (error instanceof RuntimeException) {
+        throw (RuntimeException) error;
+      } else if (error instanceof Error) {
+        throw (Error) error;
+      } else if (error != null) {
+        throw new RuntimeException(error);
+      }
+    }
+  }
+
+  /** A task running a group of tasks, used to submit them from outside of the pool. */
+  private static final class InvokeAllTask extends RecursiveAction {
+    private final CallTask[] tasks;
+
+    private InvokeAllTask(CallTask[] tasks) {
+      this.tasks = tasks;
+    }
+
+    @Override
+    protected void compute() {
+      invokeAll(tasks);
+    }
+  }
+
+  /* Note [Parallel Evaluation]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * The parallel builtins split their work into a few tasks per thread of the context's fork-join
+   * pool. Each task enters the Truffle context before calling any Enso code, as the pool's threads
+   * are not polyglot threads, and leaves it when it is done. A task started from a thread of the
+   * pool, i.e. by a nested parallel call, is forked into the same pool, where the joining thread
+   * helps executing the pending tasks instead of blocking, so nesting cannot exhaust the pool.
+   *
+   * Every call starts with the state the builtin was called with, and any changes it makes to the
+   * state are discarded, like in `State.run`. The calls can't see each other's changes, and there
+   * is no sequential order in which the changes could be combined.
+   *
+   * A task stops at the first call throwing an exception, e.g. a panic. Once all the tasks are
+   * done, the exception of the first failing call is rethrown on the calling thread as it is,
+   * rather than through `ForkJoinTask.join`, which may wrap it in a new exception.
+   */
+}
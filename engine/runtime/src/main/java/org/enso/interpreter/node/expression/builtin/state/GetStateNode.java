@@ -7,7 +7,6 @@ import org.enso.interpreter.node.expression.builtin.BuiltinRootNode;
 import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
 import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.callable.function.FunctionSchema;
-import org.enso.interpreter.runtime.state.Stateful;
 
 /** Root node for the builtin State.get function. */
 @NodeInfo(shortName = "State.get", description = "Root node for the builtin State.get function")
@@ -23,9 +22,9 @@ public class GetStateNode extends BuiltinRootNode {
    * @return the current state value without modifying the state
    */
   @Override
-  public Stateful execute(VirtualFrame frame) {
+  public Object execute(VirtualFrame frame) {
     Object state = Function.ArgumentsHelper.getState(frame.getArguments());
-    return new Stateful(state, state);
+    return state;
   }
 
   /**
@@ -24,7 +24,7 @@ public class PutStateNode extends BuiltinRootNode {
    * @return The new state value and a modification setting the state to the same value
    */
   @Override
-  public Stateful execute(VirtualFrame frame) {
+  public Object execute(VirtualFrame frame) {
     Object newState = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[1];
     return new Stateful(newState, newState);
   }
@@ -9,7 +9,6 @@ import org.enso.interpreter.node.expression.builtin.BuiltinRootNode;
 import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
 import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.callable.function.FunctionSchema;
-import org.enso.interpreter.runtime.state.Stateful;
 import org.enso.interpreter.runtime.type.TypesGen;
 
 /** Root for the builtin State.run function. */
@@ -33,18 +32,13 @@ public class RunStateNode extends BuiltinRootNode {
    * @return the result of running the stateful computation with the desired initial state
    */
   @Override
-  public Stateful execute(VirtualFrame frame) {
+  public Object execute(VirtualFrame frame) {
     Object localState = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[1];
     Object maybeThunk = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments())[2];
-    Object state = Function.ArgumentsHelper.getState(frame.getArguments());
     if (thunksProfile.profile(TypesGen.isThunk(maybeThunk))) {
-      return new Stateful(
-          state,
-          thunkExecutorNode
-              .executeThunk(TypesGen.asThunk(maybeThunk), localState)
-              .getValue());
+      return thunkExecutorNode.executeThunk(TypesGen.asThunk(maybeThunk), localState).getValue();
     } else {
-      return new Stateful(state, maybeThunk);
+      return maybeThunk;
     }
   }
 
@@ -0,0 +1,44 @@
+package org.enso.interpreter.node.expression.builtin.text;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+
+/** Root node for the {@code Text.characters} function. */
+@NodeInfo(
+    shortName = "Text.characters",
+    description = "Root node for the function splitting a text into characters.")
+public class CharactersTextNode extends TextBuiltinNode {
+  private CharactersTextNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Splits the text given as the first argument into a vector of its characters, so that it can
+   * be iterated over with the vector functions.
+   *
+   * @param frame current execution frame
+   * @return a vector of the characters of the text, as single-character texts
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    return expectText(arguments[0]).toCharacters();
+  }
+
+  /**
+   * Creates a single-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new CharactersTextNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
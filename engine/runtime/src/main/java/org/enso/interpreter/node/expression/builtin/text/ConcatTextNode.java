@@ -0,0 +1,44 @@
+package org.enso.interpreter.node.expression.builtin.text;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+
+/** Root node for the {@code Text.concat} function. */
+@NodeInfo(
+    shortName = "Text.concat",
+    description = "Root node for the text concatenation function.")
+public class ConcatTextNode extends TextBuiltinNode {
+  private ConcatTextNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Concatenates the text given as the first argument with the text given as the second.
+   *
+   * @param frame current execution frame
+   * @return the concatenated text
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    return expectText(arguments[0]).concat(expectText(arguments[1]));
+  }
+
+  /**
+   * Creates a two-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new ConcatTextNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(1, "that", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
@@ -0,0 +1,41 @@
+package org.enso.interpreter.node.expression.builtin.text;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+
+/** Root node for the {@code Text.length} function. */
+@NodeInfo(shortName = "Text.length", description = "Root node for the text length function.")
+public class LengthTextNode extends TextBuiltinNode {
+  private LengthTextNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Returns the length of the text given as the first argument.
+   *
+   * @param frame current execution frame
+   * @return the number of characters of the text
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    return (long) expectText(arguments[0]).length();
+  }
+
+  /**
+   * Creates a single-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new LengthTextNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
@@ -0,0 +1,48 @@
+package org.enso.interpreter.node.expression.builtin.text;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+import org.enso.interpreter.runtime.data.Text;
+
+/** Root node for the {@code Text.slice} function. */
+@NodeInfo(shortName = "Text.slice", description = "Root node for the text slicing function.")
+public class SliceTextNode extends TextBuiltinNode {
+  private SliceTextNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Takes the slice of the text given as the first argument, from the index given as the second
+   * argument (inclusive) to the index given as the third (exclusive).
+   *
+   * @param frame current execution frame
+   * @return the requested slice
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    Text text = expectText(arguments[0]);
+    int start = checkIndex(expectLong(arguments[1]), 0, text.length(), text.length());
+    int end = checkIndex(expectLong(arguments[2]), start, text.length(), text.length());
+    return text.slice(start, end);
+  }
+
+  /**
+   * Creates a three-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new SliceTextNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(1, "start", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(2, "end", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
@@ -0,0 +1,30 @@
+package org.enso.interpreter.node.expression.builtin.text;
+
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.node.expression.builtin.BuiltinRootNode;
+import org.enso.interpreter.runtime.data.Text;
+import org.enso.interpreter.runtime.error.TypeError;
+import org.enso.interpreter.runtime.type.TypesGen;
+
+/** A base class for the builtin functions operating on text. */
+@NodeInfo(description = "Root node for text builtin functions.")
+public abstract class TextBuiltinNode extends BuiltinRootNode {
+  TextBuiltinNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Checks that an argument is a text.
+   *
+   * @param value the argument to check
+   * @return {@code value} as a text
+   * @throws TypeError when {@code value} is not a text
+   */
+  Text expectText(Object value) {
+    if (TypesGen.isText(value)) {
+      return TypesGen.asText(value);
+    }
+    throw typeError("Expected a Text.");
+  }
+}
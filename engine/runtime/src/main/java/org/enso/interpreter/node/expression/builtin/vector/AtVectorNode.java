@@ -0,0 +1,45 @@
+package org.enso.interpreter.node.expression.builtin.vector;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+import org.enso.interpreter.runtime.data.Vector;
+
+/** Root node for the {@code Vector.at} function. */
+@NodeInfo(shortName = "Vector.at", description = "Root node for the vector indexing function.")
+public class AtVectorNode extends VectorBuiltinNode {
+  private AtVectorNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Reads the element of the vector given as the first argument at the index given as the second.
+   *
+   * @param frame current execution frame
+   * @return the element at the requested index
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    Vector vector = expectVector(arguments[0]);
+    int index = checkIndex(expectLong(arguments[1]), 0, vector.length() - 1, vector.length());
+    return readAt(vector, index);
+  }
+
+  /**
+   * Creates a two-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new AtVectorNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(1, "index", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
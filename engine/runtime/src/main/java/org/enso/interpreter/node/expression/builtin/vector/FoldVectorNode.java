@@ -0,0 +1,101 @@
+package org.enso.interpreter.node.expression.builtin.vector;
+
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.FrameDescriptor;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotKind;
+import com.oracle.truffle.api.frame.FrameUtil;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.node.expression.builtin.IndexedLoopBodyNode;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+import org.enso.interpreter.runtime.data.Vector;
+import org.enso.interpreter.runtime.state.Stateful;
+
+/** Root node for the {@code Vector.fold} function. */
+@NodeInfo(shortName = "Vector.fold", description = "Root node for the vector fold function.")
+public class FoldVectorNode extends VectorBuiltinNode {
+  private final FrameSlot vectorSlot;
+  private final FrameSlot functionSlot;
+  private final FrameSlot accumulatorSlot;
+  private @Child LoopNode loopNode;
+
+  private FoldVectorNode(Language language) {
+    super(language);
+    FrameDescriptor descriptor = getFrameDescriptor();
+    vectorSlot = descriptor.findOrAddFrameSlot("<Fold Vector>", FrameSlotKind.Object);
+    functionSlot = descriptor.findOrAddFrameSlot("<Fold Function>", FrameSlotKind.Object);
+    accumulatorSlot = descriptor.findOrAddFrameSlot("<Fold Accumulator>", FrameSlotKind.Object);
+    loopNode = Truffle.getRuntime().createLoopNode(new FoldBodyNode(descriptor));
+  }
+
+  /**
+   * Combines the elements of the vector given as the first argument, from left to right, starting
+   * with the initial value given as the second argument and using the function given as the
+   * third argument.
+   *
+   * @param frame current execution frame
+   * @return the result of the last call to the function, or the initial value if the vector is
+   *     empty
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    Object state = Function.ArgumentsHelper.getState(frame.getArguments());
+    Vector vector = expectVector(arguments[0]);
+    frame.setObject(vectorSlot, vector);
+    frame.setObject(accumulatorSlot, arguments[1]);
+    frame.setObject(functionSlot, arguments[2]);
+    FoldBodyNode body = (FoldBodyNode) loopNode.getRepeatingNode();
+    body.start(frame, vector.length(), state);
+    loopNode.execute(frame);
+    Object result = FrameUtil.getObjectSafe(frame, accumulatorSlot);
+    return new Stateful(body.getState(frame), result).toCallResult(state);
+  }
+
+  /** The body of the loop, folding a single element into the accumulator. */
+  private final class FoldBodyNode extends IndexedLoopBodyNode {
+    private FoldBodyNode(FrameDescriptor descriptor) {
+      super(descriptor, 2);
+    }
+
+    /**
+     * Applies the function to the accumulator and the element at {@code index}, making the result
+     * the new accumulator.
+     *
+     * @param frame the frame the loop is executed in
+     * @param index the index of the element to fold
+     * @param state the state to call the function with
+     * @return the state returned by the function
+     */
+    @Override
+    protected Object executeIteration(VirtualFrame frame, int index, Object state) {
+      Vector vector = (Vector) FrameUtil.getObjectSafe(frame, vectorSlot);
+      Object function = FrameUtil.getObjectSafe(frame, functionSlot);
+      Object accumulator = FrameUtil.getObjectSafe(frame, accumulatorSlot);
+      Stateful result =
+          call(frame, function, state, new Object[] {accumulator, readAt(vector, index)});
+      frame.setObject(accumulatorSlot, result.getValue());
+      return result.getState();
+    }
+  }
+
+  /**
+   * Creates a three-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new FoldVectorNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(1, "initial", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(2, "function", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
@@ -0,0 +1,41 @@
+package org.enso.interpreter.node.expression.builtin.vector;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+
+/** Root node for the {@code Vector.length} function. */
+@NodeInfo(shortName = "Vector.length", description = "Root node for the vector length function.")
+public class LengthVectorNode extends VectorBuiltinNode {
+  private LengthVectorNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Returns the length of the vector given as the first argument.
+   *
+   * @param frame current execution frame
+   * @return the number of elements of the vector
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    return (long) expectVector(arguments[0]).length();
+  }
+
+  /**
+   * Creates a single-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new LengthVectorNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
@@ -0,0 +1,96 @@
+package org.enso.interpreter.node.expression.builtin.vector;
+
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.FrameDescriptor;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotKind;
+import com.oracle.truffle.api.frame.FrameUtil;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.node.expression.builtin.IndexedLoopBodyNode;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+import org.enso.interpreter.runtime.data.Vector;
+import org.enso.interpreter.runtime.data.VectorBuilder;
+import org.enso.interpreter.runtime.state.Stateful;
+
+/** Root node for the {@code Vector.map} function. */
+@NodeInfo(shortName = "Vector.map", description = "Root node for the vector map function.")
+public class MapVectorNode extends VectorBuiltinNode {
+  private final FrameSlot vectorSlot;
+  private final FrameSlot functionSlot;
+  private final FrameSlot builderSlot;
+  private @Child LoopNode loopNode;
+
+  private MapVectorNode(Language language) {
+    super(language);
+    FrameDescriptor descriptor = getFrameDescriptor();
+    vectorSlot = descriptor.findOrAddFrameSlot("<Map Vector>", FrameSlotKind.Object);
+    functionSlot = descriptor.findOrAddFrameSlot("<Map Function>", FrameSlotKind.Object);
+    builderSlot = descriptor.findOrAddFrameSlot("<Map Builder>", FrameSlotKind.Object);
+    loopNode = Truffle.getRuntime().createLoopNode(new MapBodyNode(descriptor));
+  }
+
+  /**
+   * Applies the function given as the second argument to each element of the vector given as the
+   * first argument, in order.
+   *
+   * @param frame current execution frame
+   * @return a vector of the results of the function
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    Object state = Function.ArgumentsHelper.getState(frame.getArguments());
+    Vector vector = expectVector(arguments[0]);
+    VectorBuilder builder = new VectorBuilder(vector.length());
+    frame.setObject(vectorSlot, vector);
+    frame.setObject(functionSlot, arguments[1]);
+    frame.setObject(builderSlot, builder);
+    MapBodyNode body = (MapBodyNode) loopNode.getRepeatingNode();
+    body.start(frame, vector.length(), state);
+    loopNode.execute(frame);
+    return new Stateful(body.getState(frame), builder.build()).toCallResult(state);
+  }
+
+  /** The body of the loop, mapping a single element. */
+  private final class MapBodyNode extends IndexedLoopBodyNode {
+    private MapBodyNode(FrameDescriptor descriptor) {
+      super(descriptor, 1);
+    }
+
+    /**
+     * Applies the function to the element at {@code index} and adds the result to the builder.
+     *
+     * @param frame the frame the loop is executed in
+     * @param index the index of the element to map
+     * @param state the state to call the function with
+     * @return the state returned by the function
+     */
+    @Override
+    protected Object executeIteration(VirtualFrame frame, int index, Object state) {
+      Vector vector = (Vector) FrameUtil.getObjectSafe(frame, vectorSlot);
+      Object function = FrameUtil.getObjectSafe(frame, functionSlot);
+      Stateful result = call(frame, function, state, new Object[] {readAt(vector, index)});
+      ((VectorBuilder) FrameUtil.getObjectSafe(frame, builderSlot)).add(result.getValue());
+      return result.getState();
+    }
+  }
+
+  /**
+   * Creates a two-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new MapVectorNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(1, "function", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
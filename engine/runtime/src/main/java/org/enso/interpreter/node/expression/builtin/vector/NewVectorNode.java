@@ -0,0 +1,92 @@
+package org.enso.interpreter.node.expression.builtin.vector;
+
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.FrameDescriptor;
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.FrameSlotKind;
+import com.oracle.truffle.api.frame.FrameUtil;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.LoopNode;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.node.expression.builtin.IndexedLoopBodyNode;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+import org.enso.interpreter.runtime.data.VectorBuilder;
+import org.enso.interpreter.runtime.state.Stateful;
+
+/** Root node for the {@code Vector.new} function. */
+@NodeInfo(shortName = "Vector.new", description = "Root node for the vector creation function.")
+public class NewVectorNode extends VectorBuiltinNode {
+  private final FrameSlot functionSlot;
+  private final FrameSlot builderSlot;
+  private @Child LoopNode loopNode;
+
+  private NewVectorNode(Language language) {
+    super(language);
+    FrameDescriptor descriptor = getFrameDescriptor();
+    functionSlot = descriptor.findOrAddFrameSlot("<New Function>", FrameSlotKind.Object);
+    builderSlot = descriptor.findOrAddFrameSlot("<New Builder>", FrameSlotKind.Object);
+    loopNode = Truffle.getRuntime().createLoopNode(new GenerateBodyNode(descriptor));
+  }
+
+  /**
+   * Creates a vector of the length given as the second argument, whose elements are computed by
+   * calling the function given as the third argument with their indices.
+   *
+   * @param frame current execution frame
+   * @return the new vector
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    Object state = Function.ArgumentsHelper.getState(frame.getArguments());
+    int length = checkIndex(expectLong(arguments[1]), 0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    VectorBuilder builder = new VectorBuilder(length);
+    frame.setObject(functionSlot, arguments[2]);
+    frame.setObject(builderSlot, builder);
+    GenerateBodyNode body = (GenerateBodyNode) loopNode.getRepeatingNode();
+    body.start(frame, length, state);
+    loopNode.execute(frame);
+    return new Stateful(body.getState(frame), builder.build()).toCallResult(state);
+  }
+
+  /** The body of the loop, generating a single element. */
+  private final class GenerateBodyNode extends IndexedLoopBodyNode {
+    private GenerateBodyNode(FrameDescriptor descriptor) {
+      super(descriptor, 1);
+    }
+
+    /**
+     * Applies the function to {@code index} and adds the result to the builder.
+     *
+     * @param frame the frame the loop is executed in
+     * @param index the index of the element to generate
+     * @param state the state to call the function with
+     * @return the state returned by the function
+     */
+    @Override
+    protected Object executeIteration(VirtualFrame frame, int index, Object state) {
+      Object function = FrameUtil.getObjectSafe(frame, functionSlot);
+      Stateful result = call(frame, function, state, new Object[] {(long) index});
+      ((VectorBuilder) FrameUtil.getObjectSafe(frame, builderSlot)).add(result.getValue());
+      return result.getState();
+    }
+  }
+
+  /**
+   * Creates a three-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new NewVectorNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(1, "length", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(2, "function", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
@@ -0,0 +1,50 @@
+package org.enso.interpreter.node.expression.builtin.vector;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.callable.function.FunctionSchema;
+import org.enso.interpreter.runtime.data.Vector;
+
+/** Root node for the {@code Vector.slice} function. */
+@NodeInfo(shortName = "Vector.slice", description = "Root node for the vector slicing function.")
+public class SliceVectorNode extends VectorBuiltinNode {
+  private SliceVectorNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Takes the slice of the vector given as the first argument, from the index given as the second
+   * argument (inclusive) to the index given as the third (exclusive).
+   *
+   * <p>The slice shares the storage of the original vector, so this takes constant time.
+   *
+   * @param frame current execution frame
+   * @return the requested slice
+   */
+  @Override
+  public Object execute(VirtualFrame frame) {
+    Object[] arguments = Function.ArgumentsHelper.getPositionalArguments(frame.getArguments());
+    Vector vector = expectVector(arguments[0]);
+    int start = checkIndex(expectLong(arguments[1]), 0, vector.length(), vector.length());
+    int end = checkIndex(expectLong(arguments[2]), start, vector.length(), vector.length());
+    return vector.slice(start, end);
+  }
+
+  /**
+   * Creates a three-argument function wrapping this node.
+   *
+   * @param language current language instance
+   * @return a function wrapping this node
+   */
+  public static Function makeFunction(Language language) {
+    return Function.fromBuiltinRootNode(
+        new SliceVectorNode(language),
+        FunctionSchema.CallStrategy.ALWAYS_DIRECT,
+        new ArgumentDefinition(0, "this", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(1, "start", ArgumentDefinition.ExecutionMode.EXECUTE),
+        new ArgumentDefinition(2, "end", ArgumentDefinition.ExecutionMode.EXECUTE));
+  }
+}
@@ -0,0 +1,44 @@
+package org.enso.interpreter.node.expression.builtin.vector;
+
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.profiles.ValueProfile;
+import org.enso.interpreter.Language;
+import org.enso.interpreter.node.expression.builtin.BuiltinRootNode;
+import org.enso.interpreter.runtime.data.Vector;
+import org.enso.interpreter.runtime.error.TypeError;
+import org.enso.interpreter.runtime.type.TypesGen;
+
+/** A base class for the builtin functions operating on vectors. */
+@NodeInfo(description = "Root node for vector builtin functions.")
+public abstract class VectorBuiltinNode extends BuiltinRootNode {
+  private final ValueProfile storageProfile = ValueProfile.createClassProfile();
+
+  VectorBuiltinNode(Language language) {
+    super(language);
+  }
+
+  /**
+   * Checks that an argument is a vector.
+   *
+   * @param value the argument to check
+   * @return {@code value} as a vector
+   * @throws TypeError when {@code value} is not a vector
+   */
+  Vector expectVector(Object value) {
+    if (TypesGen.isVector(value)) {
+      return TypesGen.asVector(value);
+    }
+    throw typeError("Expected a Vector.");
+  }
+
+  /**
+   * Reads an element of a vector, profiling the kind of its storage.
+   *
+   * @param vector the vector to read from
+   * @param index the index of the element to read, which must be valid
+   * @return the element of {@code vector} at {@code index}
+   */
+  Object readAt(Vector vector, int index) {
+    return vector.readAt(storageProfile.profile(vector.getStorage()), index);
+  }
+}
@@ -17,6 +17,15 @@ public class ConstructorNode extends ExpressionNode {
     this.constructor = constructor;
   }
 
+  /**
+   * Gets the constructor represented by this node.
+   *
+   * @return the constructor of the type defined
+   */
+  public AtomConstructor getConstructor() {
+    return constructor;
+  }
+
   /**
    * Executes the type constructor definition.
    *
@@ -0,0 +1,54 @@
+package org.enso.interpreter.node.expression.intrinsic;
+
+import com.oracle.truffle.api.frame.FrameUtil;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.node.ExpressionNode;
+import org.enso.interpreter.node.expression.builtin.state.GetStateNode;
+import org.enso.interpreter.runtime.callable.UnresolvedSymbol;
+import org.enso.interpreter.runtime.callable.atom.AtomConstructor;
+import org.enso.interpreter.runtime.callable.function.Function;
+
+/** An inlined call to the builtin {@code State.get} method. */
+@NodeInfo(shortName = "State.get", description = "Inlined call to State.get.")
+public class GetStateIntrinsicNode extends IntrinsicNode {
+  private final AtomConstructor state;
+
+  /**
+   * Creates a new inlined call to {@code State.get}.
+   *
+   * @param symbol the {@code get} symbol
+   * @param state the constructor the method is called on
+   * @param fallback the regular call to {@code State.get}
+   */
+  public GetStateIntrinsicNode(
+      UnresolvedSymbol symbol, AtomConstructor state, ExpressionNode fallback) {
+    super(symbol, GetStateNode.class, fallback);
+    this.state = state;
+  }
+
+  /**
+   * Resolves the method for the {@code State} constructor.
+   *
+   * @param symbol the {@code get} symbol
+   * @return the resolved method, or {@code null} if not found
+   */
+  @Override
+  protected Function resolve(UnresolvedSymbol symbol) {
+    return symbol.resolveFor(state);
+  }
+
+  /**
+   * Reads the current state.
+   *
+   * @param frame the stack frame for execution
+   * @return the current state
+   */
+  @Override
+  public Object executeGeneric(VirtualFrame frame) {
+    if (resolvesToBuiltin()) {
+      return FrameUtil.getObjectSafe(frame, getStateFrameSlot());
+    }
+    return executeFallback(frame);
+  }
+}
@@ -0,0 +1,91 @@
+package org.enso.interpreter.node.expression.intrinsic;
+
+import com.oracle.truffle.api.frame.FrameSlot;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import com.oracle.truffle.api.profiles.ConditionProfile;
+import org.enso.interpreter.node.ExpressionNode;
+import org.enso.interpreter.node.expression.builtin.IfZeroNode;
+import org.enso.interpreter.runtime.callable.UnresolvedSymbol;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.type.TypesGen;
+
+/** An inlined call to the builtin {@code Number.ifZero} method. */
+@NodeInfo(shortName = "ifZero", description = "Inlined call to Number.ifZero.")
+public class IfZeroIntrinsicNode extends IntrinsicNode {
+  private @Child ExpressionNode target;
+  private @Child ExpressionNode ifZero;
+  private @Child ExpressionNode ifNotZero;
+  private final FrameSlot targetSlot;
+  private final ConditionProfile condProfile = ConditionProfile.createCountingProfile();
+
+  /**
+   * Creates a new inlined call to {@code ifZero}.
+   *
+   * @param symbol the {@code ifZero} symbol
+   * @param fallback the regular call to {@code ifZero}, which reads the number from {@code
+   *     targetSlot}
+   * @param target the number to check
+   * @param targetSlot the frame slot the number is stored in before executing {@code fallback}
+   * @param ifZero the branch to execute if the number is zero
+   * @param ifNotZero the branch to execute otherwise
+   */
+  public IfZeroIntrinsicNode(
+      UnresolvedSymbol symbol,
+      ExpressionNode fallback,
+      ExpressionNode target,
+      FrameSlot targetSlot,
+      ExpressionNode ifZero,
+      ExpressionNode ifNotZero) {
+    super(symbol, IfZeroNode.class, fallback);
+    this.target = target;
+    this.targetSlot = targetSlot;
+    this.ifZero = ifZero;
+    this.ifNotZero = ifNotZero;
+  }
+
+  /**
+   * Resolves the method for numbers.
+   *
+   * @param symbol the {@code ifZero} symbol
+   * @return the resolved method, or {@code null} if not found
+   */
+  @Override
+  protected Function resolve(UnresolvedSymbol symbol) {
+    return symbol.resolveForNumber();
+  }
+
+  /**
+   * Sets whether the node is tail-recursive, which also applies to both branches.
+   *
+   * @param isTail whether or not the node is tail-recursive
+   */
+  @Override
+  public void setTail(boolean isTail) {
+    super.setTail(isTail);
+    ifZero.setTail(isTail);
+    ifNotZero.setTail(isTail);
+  }
+
+  /**
+   * Executes one of the branches, depending on whether the number is zero.
+   *
+   * @param frame the stack frame for execution
+   * @return the result of the executed branch
+   */
+  @Override
+  public Object executeGeneric(VirtualFrame frame) {
+    Object self = target.executeGeneric(frame);
+    if ((TypesGen.isLong(self) || TypesGen.isDouble(self)) && resolvesToBuiltin()) {
+      boolean isZero =
+          TypesGen.isLong(self) ? TypesGen.asLong(self) == 0 : TypesGen.asDouble(self) == 0;
+      if (condProfile.profile(isZero)) {
+        return ifZero.executeGeneric(frame);
+      } else {
+        return ifNotZero.executeGeneric(frame);
+      }
+    }
+    frame.setObject(targetSlot, self);
+    return executeFallback(frame);
+  }
+}
@@ -0,0 +1,120 @@
+package org.enso.interpreter.node.expression.intrinsic;
+
+import com.oracle.truffle.api.Assumption;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import org.enso.interpreter.node.ExpressionNode;
+import org.enso.interpreter.node.expression.builtin.BuiltinRootNode;
+import org.enso.interpreter.runtime.callable.UnresolvedSymbol;
+import org.enso.interpreter.runtime.callable.function.Function;
+
+/**
+ * A base for nodes performing the work of a builtin method directly in the caller's frame, instead
+ * of calling it.
+ *
+ * <p>As methods are resolved dynamically, the intrinsified call may not resolve to the builtin at
+ * all. In this case, the node executes the regular call instead. See Note [Intrinsified Builtins].
+ */
+public abstract class IntrinsicNode extends ExpressionNode {
+  private final UnresolvedSymbol symbol;
+  private final Class<? extends BuiltinRootNode> builtin;
+  private @Child ExpressionNode fallback;
+  private @CompilationFinal Resolution resolution;
+
+  /**
+   * Creates a new intrinsic node.
+   *
+   * @param symbol the symbol of the intrinsified method
+   * @param builtin the class of the root node of the intrinsified builtin
+   * @param fallback the regular call to the method
+   */
+  IntrinsicNode(
+      UnresolvedSymbol symbol, Class<? extends BuiltinRootNode> builtin, ExpressionNode fallback) {
+    this.symbol = symbol;
+    this.builtin = builtin;
+    this.fallback = fallback;
+  }
+
+  /**
+   * Resolves the method for the type of the value it is called on.
+   *
+   * @param symbol the symbol of the intrinsified method
+   * @return the resolved method, or {@code null} if not found
+   */
+  protected abstract Function resolve(UnresolvedSymbol symbol);
+
+  /**
+   * Checks whether the method currently resolves to the intrinsified builtin.
+   *
+   * @return {@code true} if the builtin is called, {@code false} otherwise
+   */
+  protected boolean resolvesToBuiltin() {
+    Resolution current = resolution;
+    if (current == null || !current.methodAssumption.isValid()) {
+      CompilerDirectives.transferToInterpreterAndInvalidate();
+      Assumption methodAssumption = symbol.getMethodAssumption();
+      Function function = resolve(symbol);
+      current =
+          new Resolution(
+              methodAssumption,
+              function != null && builtin.isInstance(function.getCallTarget().getRootNode()));
+      resolution = current;
+    }
+    return current.resolvesToBuiltin;
+  }
+
+  /**
+   * Executes the regular call to the method.
+   *
+   * @param frame the stack frame for execution
+   * @return the result of the call
+   */
+  protected Object executeFallback(VirtualFrame frame) {
+    return fallback.executeGeneric(frame);
+  }
+
+  /**
+   * Sets whether the node is tail-recursive.
+   *
+   * @param isTail whether or not the node is tail-recursive
+   */
+  @Override
+  public void setTail(boolean isTail) {
+    super.setTail(isTail);
+    fallback.setTail(isTail);
+  }
+
+  /**
+   * The result of resolving the intrinsified method, valid for as long as its assumption.
+   *
+   * <p>Both values are published together, so that other threads never pair a valid assumption
+   * with the result of an older resolution.
+   */
+  private static final class Resolution {
+    private final Assumption methodAssumption;
+    private final boolean resolvesToBuiltin;
+
+    private Resolution(Assumption methodAssumption, boolean resolvesToBuiltin) {
+      this.methodAssumption = methodAssumption;
+      this.resolvesToBuiltin = resolvesToBuiltin;
+    }
+  }
+
+  /* Note [Intrinsified Builtins]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * Calls to the control flow builtins, like `ifZero`, are very common, but a regular call goes
+   * through method resolution, argument sorting, the creation of thunks for the branches and a
+   * call frame of its own. The expression factory instead emits a dedicated node for the calls it
+   * recognises, which evaluates the arguments directly in the caller's frame. Branches in tail
+   * positions stay in tail positions of the caller.
+   *
+   * The intrinsic must behave exactly as the call would, so the node checks that the method
+   * resolves to the builtin, guarded by the method's assumption so that redefinitions are noticed.
+   * Otherwise, or if the value the method is called on has a different type, the regular call is
+   * executed. It is built along with the intrinsic, so that its arguments resolve their variables
+   * against the scope at the call site, rather than against variables defined after it. For
+   * `ifZero`, the number is evaluated before this choice is made, so the intrinsic stores it in a
+   * temporary frame slot, and the regular call reads it from there instead of evaluating it again.
+   */
+}
@@ -0,0 +1,61 @@
+package org.enso.interpreter.node.expression.intrinsic;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.node.ExpressionNode;
+import org.enso.interpreter.node.callable.ForceNodeGen;
+import org.enso.interpreter.node.expression.builtin.error.PanicNode;
+import org.enso.interpreter.runtime.callable.UnresolvedSymbol;
+import org.enso.interpreter.runtime.callable.atom.AtomConstructor;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.error.PanicException;
+
+/** An inlined call to the builtin {@code Panic.throw} method. */
+@NodeInfo(shortName = "Panic.throw", description = "Inlined call to Panic.throw.")
+public class PanicIntrinsicNode extends IntrinsicNode {
+  private final AtomConstructor panic;
+  private @Child ExpressionNode payload;
+
+  /**
+   * Creates a new inlined call to {@code Panic.throw}.
+   *
+   * @param symbol the {@code throw} symbol
+   * @param panic the constructor the method is called on
+   * @param fallback the regular call to {@code Panic.throw}
+   * @param payload the value to panic with
+   */
+  public PanicIntrinsicNode(
+      UnresolvedSymbol symbol,
+      AtomConstructor panic,
+      ExpressionNode fallback,
+      ExpressionNode payload) {
+    super(symbol, PanicNode.class, fallback);
+    this.panic = panic;
+    this.payload = ForceNodeGen.create(payload);
+  }
+
+  /**
+   * Resolves the method for the {@code Panic} constructor.
+   *
+   * @param symbol the {@code throw} symbol
+   * @return the resolved method, or {@code null} if not found
+   */
+  @Override
+  protected Function resolve(UnresolvedSymbol symbol) {
+    return symbol.resolveFor(panic);
+  }
+
+  /**
+   * Throws the payload as a panic.
+   *
+   * @param frame the stack frame for execution
+   * @return never returns, always throws an exception
+   */
+  @Override
+  public Object executeGeneric(VirtualFrame frame) {
+    if (resolvesToBuiltin()) {
+      throw new PanicException(payload.executeGeneric(frame), this);
+    }
+    return executeFallback(frame);
+  }
+}
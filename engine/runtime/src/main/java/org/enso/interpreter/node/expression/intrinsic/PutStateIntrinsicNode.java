@@ -0,0 +1,62 @@
+package org.enso.interpreter.node.expression.intrinsic;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.node.ExpressionNode;
+import org.enso.interpreter.node.callable.ForceNodeGen;
+import org.enso.interpreter.node.expression.builtin.state.PutStateNode;
+import org.enso.interpreter.runtime.callable.UnresolvedSymbol;
+import org.enso.interpreter.runtime.callable.atom.AtomConstructor;
+import org.enso.interpreter.runtime.callable.function.Function;
+
+/** An inlined call to the builtin {@code State.put} method. */
+@NodeInfo(shortName = "State.put", description = "Inlined call to State.put.")
+public class PutStateIntrinsicNode extends IntrinsicNode {
+  private final AtomConstructor state;
+  private @Child ExpressionNode newState;
+
+  /**
+   * Creates a new inlined call to {@code State.put}.
+   *
+   * @param symbol the {@code put} symbol
+   * @param state the constructor the method is called on
+   * @param fallback the regular call to {@code State.put}
+   * @param newState the new value of the state
+   */
+  public PutStateIntrinsicNode(
+      UnresolvedSymbol symbol,
+      AtomConstructor state,
+      ExpressionNode fallback,
+      ExpressionNode newState) {
+    super(symbol, PutStateNode.class, fallback);
+    this.state = state;
+    this.newState = ForceNodeGen.create(newState);
+  }
+
+  /**
+   * Resolves the method for the {@code State} constructor.
+   *
+   * @param symbol the {@code put} symbol
+   * @return the resolved method, or {@code null} if not found
+   */
+  @Override
+  protected Function resolve(UnresolvedSymbol symbol) {
+    return symbol.resolveFor(state);
+  }
+
+  /**
+   * Replaces the current state.
+   *
+   * @param frame the stack frame for execution
+   * @return the new state
+   */
+  @Override
+  public Object executeGeneric(VirtualFrame frame) {
+    if (resolvesToBuiltin()) {
+      Object value = newState.executeGeneric(frame);
+      frame.setObject(getStateFrameSlot(), value);
+      return value;
+    }
+    return executeFallback(frame);
+  }
+}
@@ -0,0 +1,31 @@
+package org.enso.interpreter.node.expression.literal;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.node.ExpressionNode;
+
+/** A representation of decimal literals in Enso. */
+@NodeInfo(shortName = "DoubleLiteral")
+public final class DoubleLiteralNode extends ExpressionNode {
+  private final double value;
+
+  /**
+   * Creates a new decimal literal.
+   *
+   * @param value the decimal value of the literal
+   */
+  public DoubleLiteralNode(double value) {
+    this.value = value;
+  }
+
+  /**
+   * Gets the value of the literal.
+   *
+   * @param frame the stack frame for execution
+   * @return the value of the decimal literal
+   */
+  @Override
+  public Object executeGeneric(VirtualFrame frame) {
+    return this.value;
+  }
+}
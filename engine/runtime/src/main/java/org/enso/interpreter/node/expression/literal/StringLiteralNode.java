@@ -3,11 +3,12 @@ package org.enso.interpreter.node.expression.literal;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.NodeInfo;
 import org.enso.interpreter.node.ExpressionNode;
+import org.enso.interpreter.runtime.data.Text;
 
-/** Node representing a constant String value. */
+/** Node representing a constant text value. */
 @NodeInfo(shortName = "StringLiteral", description = "Constant string literal expression")
 public class StringLiteralNode extends ExpressionNode {
-  private final String value;
+  private final Text value;
 
   /**
    * Creates a new instance of this node.
@@ -15,14 +16,14 @@ public class StringLiteralNode extends ExpressionNode {
    * @param value the literal value this node represents
    */
   public StringLiteralNode(String value) {
-    this.value = value;
+    this.value = Text.create(value);
   }
 
   /**
    * Returns the constant value of this string literal.
    *
    * @param frame the stack frame for execution
-   * @return the string value this node was created with
+   * @return the text value this node was created with
    */
   @Override
   public Object executeGeneric(VirtualFrame frame) {
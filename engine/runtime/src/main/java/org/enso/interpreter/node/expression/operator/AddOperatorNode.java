@@ -1,7 +1,9 @@
 package org.enso.interpreter.node.expression.operator;
 
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.runtime.number.EnsoBigInteger;
 
 /**
  * The addition operator for Enso.
@@ -10,14 +12,88 @@ import com.oracle.truffle.api.nodes.NodeInfo;
 public abstract class AddOperatorNode extends BinaryOperatorNode {
 
   /**
-   * Adds two numbers together.
+   * Adds two numbers together, failing if the result does not fit in a {@code long}.
    *
    * @param left the first summand
    * @param right the second summand
    * @return the result of adding {@code left} and {@code right}
+   * @throws ArithmeticException when the result overflows
    */
-  @Specialization
+  @Specialization(rewriteOn = ArithmeticException.class)
   protected long add(long left, long right) {
+    return Math.addExact(left, right);
+  }
+
+  /**
+   * Adds two big integers together.
+   *
+   * @param left the first summand
+   * @param right the second summand
+   * @return the result of adding {@code left} and {@code right}
+   */
+  @Specialization
+  @CompilerDirectives.TruffleBoundary
+  protected Object add(EnsoBigInteger left, EnsoBigInteger right) {
+    return EnsoBigInteger.normalize(left.getValue().add(right.getValue()));
+  }
+
+  /**
+   * Adds two decimals together.
+   *
+   * @param left the first summand
+   * @param right the second summand
+   * @return the result of adding {@code left} and {@code right}
+   */
+  @Specialization
+  protected double add(double left, double right) {
+    return left + right;
+  }
+
+  /**
+   * Adds an integer and a decimal together.
+   *
+   * @param left the first summand
+   * @param right the second summand
+   * @return the result of adding {@code left} and {@code right}
+   */
+  @Specialization
+  protected double add(long left, double right) {
     return left + right;
   }
+
+  /**
+   * Adds a decimal and an integer together.
+   *
+   * @param left the first summand
+   * @param right the second summand
+   * @return the result of adding {@code left} and {@code right}
+   */
+  @Specialization
+  protected double add(double left, long right) {
+    return left + right;
+  }
+
+  /**
+   * Adds a big integer and a decimal together.
+   *
+   * @param left the first summand
+   * @param right the second summand
+   * @return the result of adding {@code left} and {@code right}
+   */
+  @Specialization
+  protected double add(EnsoBigInteger left, double right) {
+    return left.doubleValue() + right;
+  }
+
+  /**
+   * Adds a decimal and a big integer together.
+   *
+   * @param left the first summand
+   * @param right the second summand
+   * @return the result of adding {@code left} and {@code right}
+   */
+  @Specialization
+  protected double add(double left, EnsoBigInteger right) {
+    return left + right.doubleValue();
+  }
 }
@@ -1,15 +1,23 @@
 package org.enso.interpreter.node.expression.operator;
 
 import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.TypeSystemReference;
 import com.oracle.truffle.api.nodes.NodeInfo;
 import org.enso.interpreter.node.ExpressionNode;
+import org.enso.interpreter.runtime.type.Types;
 
 /**
  * A base class for all binary operators in Enso.
+ *
+ * <p>Operators use the Enso type system, so that {@code long} operands are implicitly converted to
+ * big integers once an operation has overflowed. Integers mixed with decimals are handled by
+ * dedicated specializations, rather than an implicit conversion, so that a specialization on
+ * decimals never accepts two integers.
  */
 @NodeInfo(
     shortName = "BinaryOperator",
     description = "A representation of generic binary operators.")
 @NodeChild("leftOperand")
 @NodeChild("rightOperand")
+@TypeSystemReference(Types.class)
 public abstract class BinaryOperatorNode extends ExpressionNode {}
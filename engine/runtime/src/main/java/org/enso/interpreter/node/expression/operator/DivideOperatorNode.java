@@ -1,7 +1,9 @@
 package org.enso.interpreter.node.expression.operator;
 
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.runtime.number.EnsoBigInteger;
 
 /** The division operator for Enso. */
 @NodeInfo(shortName = "/")
@@ -10,12 +12,99 @@ public abstract class DivideOperatorNode extends BinaryOperatorNode {
   /**
    * Performs integer division of two numbers.
    *
+   * <p>The only division whose result does not fit in a {@code long} is that of {@link
+   * Long#MIN_VALUE} by {@code -1}, which is excluded by the guard.
+   *
    * @param left the dividend
    * @param right the divisor
    * @return the result of dividing {@code left} by {@code right}
    */
-  @Specialization
+  @Specialization(guards = "!isOverflowing(left, right)")
   protected long divide(long left, long right) {
     return left / right;
   }
+
+  /**
+   * Performs integer division of two big integers.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return the result of dividing {@code left} by {@code right}
+   */
+  @Specialization
+  @CompilerDirectives.TruffleBoundary
+  protected Object divide(EnsoBigInteger left, EnsoBigInteger right) {
+    return EnsoBigInteger.normalize(left.getValue().divide(right.getValue()));
+  }
+
+  /**
+   * Performs decimal division of two numbers.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return the result of dividing {@code left} by {@code right}
+   */
+  @Specialization
+  protected double divide(double left, double right) {
+    return left / right;
+  }
+
+  /**
+   * Performs decimal division of an integer by a decimal.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return the result of dividing {@code left} by {@code right}
+   */
+  @Specialization
+  protected double divide(long left, double right) {
+    return left / right;
+  }
+
+  /**
+   * Performs decimal division of a decimal by an integer.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return the result of dividing {@code left} by {@code right}
+   */
+  @Specialization
+  protected double divide(double left, long right) {
+    return left / right;
+  }
+
+  /**
+   * Performs decimal division of a big integer by a decimal.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return the result of dividing {@code left} by {@code right}
+   */
+  @Specialization
+  protected double divide(EnsoBigInteger left, double right) {
+    return left.doubleValue() / right;
+  }
+
+  /**
+   * Performs decimal division of a decimal by a big integer.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return the result of dividing {@code left} by {@code right}
+   */
+  @Specialization
+  protected double divide(double left, EnsoBigInteger right) {
+    return left / right.doubleValue();
+  }
+
+  /**
+   * Checks whether the division of two numbers overflows.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return {@code true} if the quotient does not fit in a {@code long}, {@code false} otherwise
+   */
+  static boolean isOverflowing(long left, long right) {
+    return left == Long.MIN_VALUE && right == -1;
+  }
 }
@@ -1,7 +1,9 @@
 package org.enso.interpreter.node.expression.operator;
 
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.runtime.number.EnsoBigInteger;
 
 /**
  * The modulo operator for Enso.
@@ -20,4 +22,77 @@ public abstract class ModOperatorNode extends BinaryOperatorNode {
   protected long mod(long left, long right) {
     return left % right;
   }
+
+  /**
+   * Calculates the modulus of two big integers.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return the result of calculating {@code left} modulo {@code right}
+   */
+  @Specialization
+  @CompilerDirectives.TruffleBoundary
+  protected Object mod(EnsoBigInteger left, EnsoBigInteger right) {
+    return EnsoBigInteger.normalize(left.getValue().remainder(right.getValue()));
+  }
+
+  /**
+   * Calculates the modulus of two decimals.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return the result of calculating {@code left} modulo {@code right}
+   */
+  @Specialization
+  protected double mod(double left, double right) {
+    return left % right;
+  }
+
+  /**
+   * Calculates the modulus of an integer and a decimal.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return the result of calculating {@code left} modulo {@code right}
+   */
+  @Specialization
+  protected double mod(long left, double right) {
+    return left % right;
+  }
+
+  /**
+   * Calculates the modulus of a decimal and an integer.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return the result of calculating {@code left} modulo {@code right}
+   */
+  @Specialization
+  protected double mod(double left, long right) {
+    return left % right;
+  }
+
+  /**
+   * Calculates the modulus of a big integer and a decimal.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return the result of calculating {@code left} modulo {@code right}
+   */
+  @Specialization
+  protected double mod(EnsoBigInteger left, double right) {
+    return left.doubleValue() % right;
+  }
+
+  /**
+   * Calculates the modulus of a decimal and a big integer.
+   *
+   * @param left the dividend
+   * @param right the divisor
+   * @return the result of calculating {@code left} modulo {@code right}
+   */
+  @Specialization
+  protected double mod(double left, EnsoBigInteger right) {
+    return left % right.doubleValue();
+  }
 }
@@ -1,7 +1,9 @@
 package org.enso.interpreter.node.expression.operator;
 
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.runtime.number.EnsoBigInteger;
 
 /**
  * The multiplication operator for Enso.
@@ -10,14 +12,88 @@ import com.oracle.truffle.api.nodes.NodeInfo;
 public abstract class MultiplyOperatorNode extends BinaryOperatorNode {
 
   /**
-   * Multiplies two numbers together.
+   * Multiplies two numbers together, failing if the result does not fit in a {@code long}.
    *
    * @param left the first factor
    * @param right the second factor
    * @return the result of {@code left} multiplied by {@code right}
+   * @throws ArithmeticException when the result overflows
    */
-  @Specialization
+  @Specialization(rewriteOn = ArithmeticException.class)
   protected long multiply(long left, long right) {
+    return Math.multiplyExact(left, right);
+  }
+
+  /**
+   * Multiplies two big integers together.
+   *
+   * @param left the first factor
+   * @param right the second factor
+   * @return the result of {@code left} multiplied by {@code right}
+   */
+  @Specialization
+  @CompilerDirectives.TruffleBoundary
+  protected Object multiply(EnsoBigInteger left, EnsoBigInteger right) {
+    return EnsoBigInteger.normalize(left.getValue().multiply(right.getValue()));
+  }
+
+  /**
+   * Multiplies two decimals together.
+   *
+   * @param left the first factor
+   * @param right the second factor
+   * @return the result of {@code left} multiplied by {@code right}
+   */
+  @Specialization
+  protected double multiply(double left, double right) {
     return left * right;
   }
+
+  /**
+   * Multiplies an integer by a decimal.
+   *
+   * @param left the first factor
+   * @param right the second factor
+   * @return the result of multiplying {@code left} by {@code right}
+   */
+  @Specialization
+  protected double multiply(long left, double right) {
+    return left * right;
+  }
+
+  /**
+   * Multiplies a decimal by an integer.
+   *
+   * @param left the first factor
+   * @param right the second factor
+   * @return the result of multiplying {@code left} by {@code right}
+   */
+  @Specialization
+  protected double multiply(double left, long right) {
+    return left * right;
+  }
+
+  /**
+   * Multiplies a big integer by a decimal.
+   *
+   * @param left the first factor
+   * @param right the second factor
+   * @return the result of multiplying {@code left} by {@code right}
+   */
+  @Specialization
+  protected double multiply(EnsoBigInteger left, double right) {
+    return left.doubleValue() * right;
+  }
+
+  /**
+   * Multiplies a decimal by a big integer.
+   *
+   * @param left the first factor
+   * @param right the second factor
+   * @return the result of multiplying {@code left} by {@code right}
+   */
+  @Specialization
+  protected double multiply(double left, EnsoBigInteger right) {
+    return left * right.doubleValue();
+  }
 }
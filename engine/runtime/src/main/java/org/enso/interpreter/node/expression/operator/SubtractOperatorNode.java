@@ -1,7 +1,9 @@
 package org.enso.interpreter.node.expression.operator;
 
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.NodeInfo;
+import org.enso.interpreter.runtime.number.EnsoBigInteger;
 
 /**
  * The subtraction operator for Enso.
@@ -10,14 +12,88 @@ import com.oracle.truffle.api.nodes.NodeInfo;
 public abstract class SubtractOperatorNode extends BinaryOperatorNode {
 
   /**
-   * Subtracts one number from another.
+   * Subtracts one number from another, failing if the result does not fit in a {@code long}.
    *
    * @param left the minuend
    * @param right the subtrahend
    * @return the result of subtracting {@code right} from {@code left}
+   * @throws ArithmeticException when the result overflows
    */
-  @Specialization
+  @Specialization(rewriteOn = ArithmeticException.class)
   protected long subtract(long left, long right) {
+    return Math.subtractExact(left, right);
+  }
+
+  /**
+   * Subtracts one big integer from another.
+   *
+   * @param left the minuend
+   * @param right the subtrahend
+   * @return the result of subtracting {@code right} from {@code left}
+   */
+  @Specialization
+  @CompilerDirectives.TruffleBoundary
+  protected Object subtract(EnsoBigInteger left, EnsoBigInteger right) {
+    return EnsoBigInteger.normalize(left.getValue().subtract(right.getValue()));
+  }
+
+  /**
+   * Subtracts one decimal from another.
+   *
+   * @param left the minuend
+   * @param right the subtrahend
+   * @return the result of subtracting {@code right} from {@code left}
+   */
+  @Specialization
+  protected double subtract(double left, double right) {
+    return left - right;
+  }
+
+  /**
+   * Subtracts a decimal from an integer.
+   *
+   * @param left the minuend
+   * @param right the subtrahend
+   * @return the result of subtracting {@code right} from {@code left}
+   */
+  @Specialization
+  protected double subtract(long left, double right) {
     return left - right;
   }
+
+  /**
+   * Subtracts an integer from a decimal.
+   *
+   * @param left the minuend
+   * @param right the subtrahend
+   * @return the result of subtracting {@code right} from {@code left}
+   */
+  @Specialization
+  protected double subtract(double left, long right) {
+    return left - right;
+  }
+
+  /**
+   * Subtracts a decimal from a big integer.
+   *
+   * @param left the minuend
+   * @param right the subtrahend
+   * @return the result of subtracting {@code right} from {@code left}
+   */
+  @Specialization
+  protected double subtract(EnsoBigInteger left, double right) {
+    return left.doubleValue() - right;
+  }
+
+  /**
+   * Subtracts a big integer from a decimal.
+   *
+   * @param left the minuend
+   * @param right the subtrahend
+   * @return the result of subtracting {@code right} from {@code left}
+   */
+  @Specialization
+  protected double subtract(double left, EnsoBigInteger right) {
+    return left - right.doubleValue();
+  }
 }
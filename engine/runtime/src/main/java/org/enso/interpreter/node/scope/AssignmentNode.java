@@ -1,9 +1,11 @@
 package org.enso.interpreter.node.scope;
 
+import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.CachedContext;
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.NodeField;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.FrameDescriptor;
 import com.oracle.truffle.api.frame.FrameSlot;
 import com.oracle.truffle.api.frame.FrameSlotKind;
 import com.oracle.truffle.api.frame.VirtualFrame;
@@ -25,36 +27,117 @@ public abstract class AssignmentNode extends ExpressionNode {
    * @param ctx language context for global values access
    * @return the unit type
    */
-  @Specialization
+  @Specialization(guards = "isLongOrIllegal(frame)")
   protected Object writeLong(
       VirtualFrame frame, long value, @CachedContext(Language.class) Context ctx) {
-    frame.getFrameDescriptor().setFrameSlotKind(getFrameSlot(), FrameSlotKind.Long);
+    ensureKind(frame, FrameSlotKind.Long);
     frame.setLong(getFrameSlot(), value);
 
     return ctx.getUnit().newInstance();
   }
 
+  /**
+   * Writes a double value into the provided frame.
+   *
+   * @param frame the frame to write to
+   * @param value the value to write
+   * @param ctx language context for global values access
+   * @return the unit type
+   */
+  @Specialization(guards = "isDoubleOrIllegal(frame)")
+  protected Object writeDouble(
+      VirtualFrame frame, double value, @CachedContext(Language.class) Context ctx) {
+    ensureKind(frame, FrameSlotKind.Double);
+    frame.setDouble(getFrameSlot(), value);
+
+    return ctx.getUnit().newInstance();
+  }
+
   /**
    * Writes an object value into the provided frame.
    *
+   * <p>Once used, this specialization handles all the values written by this node, as the slot
+   * has been shown to hold values of different kinds.
+   *
    * @param frame the frame to write to
    * @param value the value to write
    * @param ctx language context for global values access
    * @return the unit type
    */
-  @Specialization
+  @Specialization(replaces = {"writeLong", "writeDouble"})
   protected Object writeObject(
       VirtualFrame frame, Object value, @CachedContext(Language.class) Context ctx) {
-    frame.getFrameDescriptor().setFrameSlotKind(getFrameSlot(), FrameSlotKind.Object);
+    ensureKind(frame, FrameSlotKind.Object);
     frame.setObject(getFrameSlot(), value);
 
     return ctx.getUnit().newInstance();
   }
 
+  /**
+   * Checks whether the slot written by this node can hold unboxed {@code long} values.
+   *
+   * @param frame the frame being written to
+   * @return {@code true} if the slot is a {@code long} slot or has no kind yet, {@code false}
+   *     otherwise
+   */
+  boolean isLongOrIllegal(VirtualFrame frame) {
+    return isKindOrIllegal(frame, FrameSlotKind.Long);
+  }
+
+  /**
+   * Checks whether the slot written by this node can hold unboxed {@code double} values.
+   *
+   * @param frame the frame being written to
+   * @return {@code true} if the slot is a {@code double} slot or has no kind yet, {@code false}
+   *     otherwise
+   */
+  boolean isDoubleOrIllegal(VirtualFrame frame) {
+    return isKindOrIllegal(frame, FrameSlotKind.Double);
+  }
+
+  private boolean isKindOrIllegal(VirtualFrame frame, FrameSlotKind kind) {
+    FrameSlotKind current = frame.getFrameDescriptor().getFrameSlotKind(getFrameSlot());
+    return current == kind || current == FrameSlotKind.Illegal;
+  }
+
+  /**
+   * Sets the kind of the slot written by this node, if it is not of that kind already.
+   *
+   * <p>The frame descriptor is shared by all executions of the enclosing function, so it is only
+   * modified on an actual transition. See Note [Frame Slot Kinds].
+   *
+   * @param frame the frame being written to
+   * @param kind the kind the slot should have
+   */
+  private void ensureKind(VirtualFrame frame, FrameSlotKind kind) {
+    FrameDescriptor descriptor = frame.getFrameDescriptor();
+    if (descriptor.getFrameSlotKind(getFrameSlot()) != kind) {
+      CompilerDirectives.transferToInterpreterAndInvalidate();
+      descriptor.setFrameSlotKind(getFrameSlot(), kind);
+    }
+  }
+
   /**
    * Gets the current frame slot
    *
    * @return the frame slot being written to
    */
   public abstract FrameSlot getFrameSlot();
+
+  /* Note [Frame Slot Kinds]
+   * ~~~~~~~~~~~~~~~~~~~~~~~
+   * The kind of a frame slot is recorded in the frame descriptor, which is shared by all the
+   * executions of a function, and is treated as a constant by compiled code that reads the slot.
+   * Changing it invalidates that code, so it must only happen when the kind actually changes.
+   *
+   * Each write specializes on the slot's current kind. A slot starts out as `Illegal`, and the
+   * first value written to it decides whether it becomes a `Long`, a `Double` or an `Object` slot.
+   * If a value of a different kind is then written, the slot turns into an `Object` slot for good,
+   * and the write nodes stop speculating on it. This means a slot can change its kind at most
+   * twice, instead of flipping back and forth between kinds and deoptimizing the code using it on
+   * every flip.
+   *
+   * The reads in `ReadLocalTargetNode` in turn speculate on the slot holding an unboxed value, and
+   * only fall back to generic reads once they observe a boxed one.
+   */
 }
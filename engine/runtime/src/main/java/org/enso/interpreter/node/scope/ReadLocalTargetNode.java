@@ -31,6 +31,22 @@ public abstract class ReadLocalTargetNode extends ExpressionNode {
     return currentFrame.getLong(getFramePointer().getFrameSlot());
   }
 
+  /**
+   * Reads a {@code double} value from the frame.
+   *
+   * @param frame the stack frame to read from
+   * @return the value read from the appropriate slot in {@code frame}
+   * @throws FrameSlotTypeException when the specified frame slot does not contain a value with the
+   *     expected type
+   */
+  @Specialization(rewriteOn = FrameSlotTypeException.class)
+  protected double readDouble(VirtualFrame frame) throws FrameSlotTypeException {
+    if (getFramePointer().getParentLevel() == 0)
+      return frame.getDouble(getFramePointer().getFrameSlot());
+    MaterializedFrame currentFrame = getProperFrame(frame);
+    return currentFrame.getDouble(getFramePointer().getFrameSlot());
+  }
+
   /**
    * Reads an generic value from the frame.
    *
@@ -42,9 +58,9 @@ public abstract class ReadLocalTargetNode extends ExpressionNode {
   @Specialization
   protected Object readGeneric(VirtualFrame frame) {
     if (getFramePointer().getParentLevel() == 0)
-      return FrameUtil.getObjectSafe(frame, getFramePointer().getFrameSlot());
+      return frame.getValue(getFramePointer().getFrameSlot());
     MaterializedFrame currentFrame = getProperFrame(frame);
-    return FrameUtil.getObjectSafe(currentFrame, getFramePointer().getFrameSlot());
+    return currentFrame.getValue(getFramePointer().getFrameSlot());
   }
 
   /**
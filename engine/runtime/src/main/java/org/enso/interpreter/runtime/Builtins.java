@@ -9,9 +9,27 @@ import org.enso.interpreter.node.expression.builtin.error.CatchPanicNode;
 import org.enso.interpreter.node.expression.builtin.error.PanicNode;
 import org.enso.interpreter.node.expression.builtin.error.ThrowErrorNode;
 import org.enso.interpreter.node.expression.builtin.io.PrintNode;
+import org.enso.interpreter.node.expression.builtin.map.EmptyMapNode;
+import org.enso.interpreter.node.expression.builtin.map.FoldMapNode;
+import org.enso.interpreter.node.expression.builtin.map.InsertMapNode;
+import org.enso.interpreter.node.expression.builtin.map.LookupMapNode;
+import org.enso.interpreter.node.expression.builtin.map.RemoveMapNode;
+import org.enso.interpreter.node.expression.builtin.map.SizeMapNode;
+import org.enso.interpreter.node.expression.builtin.parallel.BothParallelNode;
+import org.enso.interpreter.node.expression.builtin.parallel.MapParallelNode;
 import org.enso.interpreter.node.expression.builtin.state.GetStateNode;
 import org.enso.interpreter.node.expression.builtin.state.PutStateNode;
 import org.enso.interpreter.node.expression.builtin.state.RunStateNode;
+import org.enso.interpreter.node.expression.builtin.text.CharactersTextNode;
+import org.enso.interpreter.node.expression.builtin.text.ConcatTextNode;
+import org.enso.interpreter.node.expression.builtin.text.LengthTextNode;
+import org.enso.interpreter.node.expression.builtin.text.SliceTextNode;
+import org.enso.interpreter.node.expression.builtin.vector.AtVectorNode;
+import org.enso.interpreter.node.expression.builtin.vector.FoldVectorNode;
+import org.enso.interpreter.node.expression.builtin.vector.LengthVectorNode;
+import org.enso.interpreter.node.expression.builtin.vector.MapVectorNode;
+import org.enso.interpreter.node.expression.builtin.vector.NewVectorNode;
+import org.enso.interpreter.node.expression.builtin.vector.SliceVectorNode;
 import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
 import org.enso.interpreter.runtime.callable.atom.AtomConstructor;
 import org.enso.interpreter.runtime.scope.ModuleScope;
@@ -20,6 +38,10 @@ import org.enso.interpreter.runtime.scope.ModuleScope;
 public class Builtins {
   private final ModuleScope scope;
   private final AtomConstructor unit;
+  private final AtomConstructor vector;
+  private final AtomConstructor text;
+  private final AtomConstructor map;
+  private final AtomConstructor parallel;
 
   /**
    * Creates an instance with builtin methods installed.
@@ -41,6 +63,10 @@ public class Builtins {
     AtomConstructor error = new AtomConstructor("Error", scope).initializeFields();
     AtomConstructor state = new AtomConstructor("State", scope).initializeFields();
     AtomConstructor debug = new AtomConstructor("Debug", scope).initializeFields();
+    vector = new AtomConstructor("Vector", scope).initializeFields();
+    text = new AtomConstructor("Text", scope).initializeFields();
+    map = new AtomConstructor("Map", scope).initializeFields();
+    parallel = new AtomConstructor("Parallel", scope).initializeFields();
 
     scope.registerConstructor(cons);
     scope.registerConstructor(nil);
@@ -50,6 +76,10 @@ public class Builtins {
     scope.registerConstructor(error);
     scope.registerConstructor(state);
     scope.registerConstructor(debug);
+    scope.registerConstructor(vector);
+    scope.registerConstructor(text);
+    scope.registerConstructor(map);
+    scope.registerConstructor(parallel);
 
     scope.registerMethod(io, "println", PrintNode.makeFunction(language));
 
@@ -66,6 +96,28 @@ public class Builtins {
 
     scope.registerMethod(debug, "eval", DebugEvalNode.makeFunction(language));
     scope.registerMethod(debug, "breakpoint", DebugBreakpointNode.makeFunction(language));
+
+    scope.registerMethod(vector, "new", NewVectorNode.makeFunction(language));
+    scope.registerMethod(vector, "at", AtVectorNode.makeFunction(language));
+    scope.registerMethod(vector, "length", LengthVectorNode.makeFunction(language));
+    scope.registerMethod(vector, "map", MapVectorNode.makeFunction(language));
+    scope.registerMethod(vector, "fold", FoldVectorNode.makeFunction(language));
+    scope.registerMethod(vector, "slice", SliceVectorNode.makeFunction(language));
+
+    scope.registerMethod(text, "concat", ConcatTextNode.makeFunction(language));
+    scope.registerMethod(text, "slice", SliceTextNode.makeFunction(language));
+    scope.registerMethod(text, "length", LengthTextNode.makeFunction(language));
+    scope.registerMethod(text, "characters", CharactersTextNode.makeFunction(language));
+
+    scope.registerMethod(map, "empty", EmptyMapNode.makeFunction(language));
+    scope.registerMethod(map, "insert", InsertMapNode.makeFunction(language));
+    scope.registerMethod(map, "lookup", LookupMapNode.makeFunction(language));
+    scope.registerMethod(map, "remove", RemoveMapNode.makeFunction(language));
+    scope.registerMethod(map, "size", SizeMapNode.makeFunction(language));
+    scope.registerMethod(map, "fold", FoldMapNode.makeFunction(language));
+
+    scope.registerMethod(parallel, "map", MapParallelNode.makeFunction(language));
+    scope.registerMethod(parallel, "both", BothParallelNode.makeFunction(language));
   }
 
   /**
@@ -77,6 +129,33 @@ public class Builtins {
     return unit;
   }
 
+  /**
+   * Returns the {@code Vector} atom constructor, whose methods are the methods of all vectors.
+   *
+   * @return the {@code Vector} atom constructor
+   */
+  public AtomConstructor vector() {
+    return vector;
+  }
+
+  /**
+   * Returns the {@code Text} atom constructor, whose methods are the methods of all texts.
+   *
+   * @return the {@code Text} atom constructor
+   */
+  public AtomConstructor text() {
+    return text;
+  }
+
+  /**
+   * Returns the {@code Map} atom constructor, whose methods are the methods of all maps.
+   *
+   * @return the {@code Map} atom constructor
+   */
+  public AtomConstructor map() {
+    return map;
+  }
+
   /**
    * Returns the builtin module scope.
    *
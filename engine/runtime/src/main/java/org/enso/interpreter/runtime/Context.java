@@ -6,16 +6,11 @@ import org.enso.compiler.Compiler;
 import org.enso.interpreter.Language;
 import org.enso.interpreter.runtime.callable.atom.AtomConstructor;
 import org.enso.interpreter.runtime.scope.ModuleScope;
-import org.enso.interpreter.util.ScalaConversions;
-import org.enso.pkg.Package;
-import org.enso.pkg.SourceFile;
 
 import java.io.File;
 import java.io.PrintStream;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The language context is the internal state of the language that is associated with each thread in
@@ -28,6 +23,7 @@ public class Context {
   private final Compiler compiler;
   private final PrintStream out;
   private final Builtins builtins;
+  private final ForkJoinPool threadPool = new ForkJoinPool();
 
   /**
    * Creates a new Enso context.
@@ -42,23 +38,9 @@ public class Context {
     this.builtins = new Builtins(language);
 
     List<File> packagePaths = RuntimeOptions.getPackagesPaths(environment);
-    // TODO [MK] Replace getTruffleFile with getInternalTruffleFile when Graal 19.3.0 comes out.
-    Map<String, Module> knownFiles =
-        packagePaths.stream()
-            .map(Package::fromDirectory)
-            .map(ScalaConversions::asJava)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .flatMap(p -> ScalaConversions.asJava(p.listSources()).stream())
-            .collect(
-                Collectors.toMap(
-                    SourceFile::qualifiedName,
-                    srcFile ->
-                        new Module(
-                            getEnvironment()
-                                .getInternalTruffleFile(srcFile.file().getAbsolutePath()))));
-
-    this.compiler = new Compiler(this.language, knownFiles, this);
+    boolean cacheModules = RuntimeOptions.shouldCacheModules(environment);
+    ModuleIndex modules = new ModuleIndex(environment, packagePaths, cacheModules);
+    this.compiler = new Compiler(this.language, modules, this);
   }
 
   /**
@@ -103,6 +85,23 @@ public class Context {
     return out;
   }
 
+  /**
+   * Returns the pool of threads used for evaluating Enso code in parallel.
+   *
+   * <p>The threads of the pool are not entered into this context, so the tasks submitted to it
+   * must enter the context themselves before executing any Enso code.
+   *
+   * @return the thread pool of this context
+   */
+  public ForkJoinPool getThreadPool() {
+    return threadPool;
+  }
+
+  /** Stops the threads created by this context. */
+  public void shutdown() {
+    threadPool.shutdownNow();
+  }
+
   /**
    * Creates a new module scope that automatically imports all the builtin types and methods.
    *
@@ -114,6 +113,17 @@ public class Context {
     return moduleScope;
   }
 
+  /**
+   * Removes all the definitions and imports of a module scope, keeping only the automatic builtins
+   * dependency, so that a module can be processed into it again.
+   *
+   * @param moduleScope the scope to reset
+   */
+  public void resetScope(ModuleScope moduleScope) {
+    moduleScope.reset();
+    moduleScope.addImport(getBuiltins().getScope());
+  }
+
   /**
    * Gets the builtin functions from the compiler.
    *
@@ -132,4 +142,34 @@ public class Context {
   public AtomConstructor getUnit() {
     return getBuiltins().unit();
   }
+
+  /**
+   * Returns the atom constructor corresponding to the {@code Vector} type, which holds the methods
+   * of all vectors.
+   *
+   * @return the builtin {@code Vector} atom constructor
+   */
+  public AtomConstructor getVector() {
+    return getBuiltins().vector();
+  }
+
+  /**
+   * Returns the atom constructor corresponding to the {@code Text} type, which holds the methods
+   * of all texts.
+   *
+   * @return the builtin {@code Text} atom constructor
+   */
+  public AtomConstructor getText() {
+    return getBuiltins().text();
+  }
+
+  /**
+   * Returns the atom constructor corresponding to the {@code Map} type, which holds the methods of
+   * all maps.
+   *
+   * @return the builtin {@code Map} atom constructor
+   */
+  public AtomConstructor getMap() {
+    return getBuiltins().map();
+  }
 }
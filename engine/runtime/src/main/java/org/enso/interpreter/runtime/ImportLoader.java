@@ -0,0 +1,121 @@
+package org.enso.interpreter.runtime;
+
+import com.oracle.truffle.api.TruffleContext;
+import org.enso.interpreter.AstImport;
+import org.enso.interpreter.AstModuleScope;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Translates all the modules imported, directly or not, by a module in parallel, before the
+ * module is processed. See Note [Parallel Module Loading].
+ */
+public class ImportLoader {
+  private final Context context;
+  private final TruffleContext truffleContext;
+  private final Set<String> visited = ConcurrentHashMap.newKeySet();
+
+  private ImportLoader(Context context) {
+    this.context = context;
+    this.truffleContext = context.getEnvironment().getContext();
+  }
+
+  /**
+   * Translates the modules imported by a module, and the modules imported by them, on the thread
+   * pool of the context, returning once all of them are translated.
+   *
+   * <p>Modules that don't exist or fail to translate are skipped, so that the error is reported
+   * when the module is processed. Modules that have already been processed are skipped as well.
+   *
+   * @param context the current language context
+   * @param module the module whose imports should be translated
+   */
+  public static void loadImports(Context context, AstModuleScope module) {
+    if (module.getImports().isEmpty()) {
+      return;
+    }
+    ImportLoader loader = new ImportLoader(context);
+    RecursiveAction task = loader.new ImportsTask(module);
+    ForkJoinPool pool = context.getThreadPool();
+    if (ForkJoinTask.getPool() == pool) {
+      task.invoke();
+    } else {
+      pool.invoke(task);
+    }
+  }
+
+  /** A task translating the modules imported by a module, in parallel. */
+  private final class ImportsTask extends RecursiveAction {
+    private final AstModuleScope module;
+
+    private ImportsTask(AstModuleScope module) {
+      this.module = module;
+    }
+
+    @Override
+    protected void compute() {
+      List<ModuleTask> tasks = new ArrayList<>();
+      for (AstImport imp : module.getImports()) {
+        if (visited.add(imp.name())) {
+          tasks.add(new ModuleTask(imp.name()));
+        }
+      }
+      invokeAll(tasks);
+    }
+  }
+
+  /** A task translating a single module, followed by its imports. */
+  private final class ModuleTask extends RecursiveAction {
+    private final String qualifiedName;
+
+    private ModuleTask(String qualifiedName) {
+      this.qualifiedName = qualifiedName;
+    }
+
+    @Override
+    protected void compute() {
+      AstModuleScope translated = null;
+      Object previousContext = truffleContext.enter();
+      try {
+        Optional<Module> module = context.compiler().modules().find(qualifiedName);
+        if (module.isPresent() && !module.get().isProcessed()) {
+          translated = module.get().requestTranslation(context);
+        }
+      } catch (IOException | RuntimeException ignored) {
+        // The parser reports syntax errors as runtime exceptions. Either way, the error is
+        // reported again when the module is processed.
+      } finally {
+        truffleContext.leave(previousContext);
+      }
+      if (translated != null) {
+        new ImportsTask(translated).compute();
+      }
+    }
+  }
+
+  /* Note [Parallel Module Loading]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * Processing a module consists of parsing and translating its sources, which only depends on
+   * the source file, and building the nodes and scope of the module, which needs the scopes of
+   * the imported modules to be built first. The first part is by far the more expensive one.
+   *
+   * Before a program is processed, its import graph is discovered by translating the imported
+   * modules on the context's thread pool. Each module is translated as soon as the module
+   * importing it is, so independent modules are translated in parallel and the time it takes
+   * depends on the longest chain of imports rather than on the number of modules. The translated
+   * modules are remembered by the modules themselves, until they are processed, and modules that
+   * have already been processed are not translated again.
+   *
+   * The nodes and scopes are then built on the calling thread, in the same order as before,
+   * without translating anything again. Building them in parallel would need the scopes to be
+   * linked in the order of imports anyway, and makes the errors of a program nondeterministic.
+   */
+}
@@ -1,14 +1,22 @@
 package org.enso.interpreter.runtime;
 
 import com.oracle.truffle.api.TruffleFile;
+import org.enso.compiler.ModuleCache;
+import org.enso.interpreter.AstModuleScope;
 import org.enso.interpreter.runtime.scope.ModuleScope;
 
 import java.io.IOException;
+import java.nio.file.attribute.FileTime;
 
 /** Represents a source module with a known location. */
 public class Module {
   private ModuleScope cachedScope = null;
+  private volatile FileTime cachedModificationTime = null;
+  private final Object parseLock = new Object();
+  private AstModuleScope parsedModule = null;
+  private FileTime parsedModificationTime = null;
   private final TruffleFile file;
+  private final ModuleCache cache;
 
   /**
    * Creates a new module.
@@ -16,22 +24,100 @@ public class Module {
    * @param file file in which this module sources are located
    */
   public Module(TruffleFile file) {
+    this(file, null);
+  }
+
+  /**
+   * Creates a new module, whose translated sources are cached on disk.
+   *
+   * @param file file in which this module sources are located
+   * @param cache the on-disk cache of the translated sources, or {@code null} if the module should
+   *     not be cached
+   */
+  public Module(TruffleFile file, ModuleCache cache) {
     this.file = file;
+    this.cache = cache;
   }
 
   /**
    * Parses the module sources. The results of this operation are cached.
    *
+   * <p>If the source file has been modified since it was last parsed, the scope is cleared and the
+   * module is processed into it again, so that modules importing it observe the new and removed
+   * definitions. See Note [Method Redefinition] in {@link ModuleScope}.
+   *
+   * <p>If the module has a {@link ModuleCache}, the sources are only parsed if they have changed
+   * since they were last cached, possibly by an earlier run.
+   *
+   * <p>This method may be called from multiple threads at once, in which case the module is only
+   * processed by one of them, and the others wait for it to finish.
+   *
+   * <p>The sources are translated by {@link #requestTranslation(Context)}, so this method only
+   * builds the scope if the sources have already been translated, e.g. by the {@link
+   * ImportLoader}. The translated module is released once it is taken, so that it doesn't stay
+   * alive along with the nodes built from it.
+   *
    * @param context context in which the parsing should take place
    * @return the scope defined by this module
    * @throws IOException when the source file could not be read
    */
-  public ModuleScope requestParse(Context context) throws IOException {
+  public synchronized ModuleScope requestParse(Context context) throws IOException {
     // TODO [AA] This needs to evolve to support scope execution
+    FileTime modificationTime = file.getLastModifiedTime();
     if (cachedScope == null) {
       cachedScope = context.createScope();
-      context.compiler().run(file, cachedScope);
+    } else if (modificationTime.equals(cachedModificationTime)) {
+      return cachedScope;
+    } else {
+      context.resetScope(cachedScope);
     }
+    cachedModificationTime = modificationTime;
+    AstModuleScope translated = requestTranslation(context);
+    releaseTranslation();
+    context.compiler().run(translated, cachedScope);
     return cachedScope;
   }
+
+  /**
+   * Checks whether the scope of this module has been built from the current version of its
+   * sources, in which case they don't need to be translated.
+   *
+   * @return {@code true} if the module has been processed since the source file was last
+   *     modified, {@code false} otherwise
+   * @throws IOException when the source file could not be read
+   */
+  public boolean isProcessed() throws IOException {
+    return file.getLastModifiedTime().equals(cachedModificationTime);
+  }
+
+  /**
+   * Parses the module sources and translates them into the form processed by the interpreter.
+   * The results of this operation are cached, until the source file is modified or the module is
+   * processed.
+   *
+   * <p>Unlike {@link #requestParse(Context)}, this method doesn't create any nodes or touch the
+   * scope of the module, so it can be called from any thread, while the module is being processed
+   * by another one.
+   *
+   * @param context context in which the parsing should take place
+   * @return the translated module
+   * @throws IOException when the source file could not be read
+   */
+  public AstModuleScope requestTranslation(Context context) throws IOException {
+    synchronized (parseLock) {
+      FileTime modificationTime = file.getLastModifiedTime();
+      if (parsedModule == null || !modificationTime.equals(parsedModificationTime)) {
+        parsedModule = context.compiler().parseModule(file, cache);
+        parsedModificationTime = modificationTime;
+      }
+      return parsedModule;
+    }
+  }
+
+  private void releaseTranslation() {
+    synchronized (parseLock) {
+      parsedModule = null;
+      parsedModificationTime = null;
+    }
+  }
 }
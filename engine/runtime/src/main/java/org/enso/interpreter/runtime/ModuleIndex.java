@@ -0,0 +1,115 @@
+package org.enso.interpreter.runtime;
+
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.TruffleLanguage.Env;
+import org.enso.compiler.ModuleCache;
+import org.enso.interpreter.Constants;
+import org.enso.interpreter.util.ScalaConversions;
+import org.enso.pkg.Package;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * An index of the modules defined by the packages on the packages path, which finds the module of
+ * a qualified name when it is first requested.
+ *
+ * <p>This class is thread-safe. See Note [Lazy Module Resolution].
+ */
+public class ModuleIndex {
+  private final Env environment;
+  private final List<File> packagePaths;
+  private final boolean cacheModules;
+  private final Map<String, Module> modules = new ConcurrentHashMap<>();
+  private final Map<String, Package> packages = new HashMap<>();
+  private int scannedPaths = 0;
+
+  /**
+   * Creates a new module index.
+   *
+   * @param environment the execution environment of the language
+   * @param packagePaths the root directories of the known packages
+   * @param cacheModules whether the translated modules should be cached on disk
+   */
+  public ModuleIndex(Env environment, List<File> packagePaths, boolean cacheModules) {
+    this.environment = environment;
+    this.packagePaths = packagePaths;
+    this.cacheModules = cacheModules;
+  }
+
+  /**
+   * Finds the module with the given qualified name.
+   *
+   * <p>Repeated calls with the same name return the same module, so that it is only processed
+   * once.
+   *
+   * @param qualifiedName the qualified name of the module
+   * @return the module with the given name, if it exists in any of the known packages
+   */
+  public Optional<Module> find(String qualifiedName) {
+    return Optional.ofNullable(modules.computeIfAbsent(qualifiedName, this::resolve));
+  }
+
+  /**
+   * Creates the module of a qualified name, which consists of the name of the package, followed
+   * by the path of the source file relative to the package's source directory.
+   *
+   * @param qualifiedName the qualified name of the module
+   * @return the module with the given name, or {@code null} if its source file doesn't exist
+   */
+  private Module resolve(String qualifiedName) {
+    String[] segments = qualifiedName.split(Pattern.quote(Package.qualifiedNameSeparator()), -1);
+    if (segments.length < 2) {
+      return null;
+    }
+    Package pkg = findPackage(segments[0]);
+    if (pkg == null) {
+      return null;
+    }
+    File file = pkg.sourceDir();
+    for (int i = 1; i < segments.length - 1; i++) {
+      file = new File(file, segments[i]);
+    }
+    file = new File(file, segments[segments.length - 1] + Constants.FILE_EXTENSION);
+    if (!file.isFile()) {
+      return null;
+    }
+    TruffleFile source = environment.getInternalTruffleFile(file.getAbsolutePath());
+    ModuleCache cache = cacheModules ? ModuleCache.forModule(pkg.root(), qualifiedName) : null;
+    return new Module(source, cache);
+  }
+
+  /**
+   * Finds the package with the given name, reading the configurations of packages on the path
+   * until it is found.
+   *
+   * @param name the name of the package
+   * @return the first package on the path with the given name, or {@code null} if there is none
+   */
+  private synchronized Package findPackage(String name) {
+    while (!packages.containsKey(name) && scannedPaths < packagePaths.size()) {
+      File root = packagePaths.get(scannedPaths++);
+      ScalaConversions.asJava(Package.fromDirectory(root))
+          .ifPresent(pkg -> packages.putIfAbsent(pkg.name(), pkg));
+    }
+    return packages.get(name);
+  }
+
+  /* Note [Lazy Module Resolution]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * The qualified name of a module determines the location of its source file, so there is no need
+   * to list the sources of all the packages up front. Creating a context doesn't touch the packages
+   * path at all, and importing a module only reads the configurations of the packages preceding
+   * its package on the path, followed by a single check that the source file exists.
+   *
+   * The packages read so far are remembered for the lifetime of the context, while the modules are
+   * only remembered once their source file has been found, so that a module created while the
+   * program is running can still be imported. If multiple packages on the path share a name, the
+   * first of them is used.
+   */
+}
@@ -17,8 +17,18 @@ public class RuntimeOptions {
   private static final OptionKey<String> PACKAGES_PATH_KEY = new OptionKey<>("");
   private static final OptionDescriptor PACKAGES_PATH_DESCRIPTOR =
       OptionDescriptor.newBuilder(PACKAGES_PATH_KEY, getPackagesPathOption()).build();
+  private static final String MEMOIZE_THUNKS = optionName("memoizeThunks");
+  private static final OptionKey<Boolean> MEMOIZE_THUNKS_KEY = new OptionKey<>(false);
+  private static final OptionDescriptor MEMOIZE_THUNKS_DESCRIPTOR =
+      OptionDescriptor.newBuilder(MEMOIZE_THUNKS_KEY, getMemoizeThunksOption()).build();
+  private static final String CACHE_MODULES = optionName("cacheModules");
+  private static final OptionKey<Boolean> CACHE_MODULES_KEY = new OptionKey<>(false);
+  private static final OptionDescriptor CACHE_MODULES_DESCRIPTOR =
+      OptionDescriptor.newBuilder(CACHE_MODULES_KEY, getCacheModulesOption()).build();
   public static final OptionDescriptors OPTION_DESCRIPTORS =
-      OptionDescriptors.create(Arrays.asList(PACKAGES_PATH_DESCRIPTOR));
+      OptionDescriptors.create(
+          Arrays.asList(
+              PACKAGES_PATH_DESCRIPTOR, MEMOIZE_THUNKS_DESCRIPTOR, CACHE_MODULES_DESCRIPTOR));
 
   /**
    * Canonicalizes the option name by prefixing it with the language name.
@@ -51,4 +61,44 @@ public class RuntimeOptions {
   public static String getPackagesPathOption() {
     return PACKAGES_PATH;
   }
+
+  /**
+   * Checks whether suspended arguments should be evaluated at most once in the current run.
+   *
+   * @param env the current run environment
+   * @return {@code true} if arguments should be passed as memoizing thunks, {@code false} otherwise
+   */
+  public static boolean shouldMemoizeThunks(TruffleLanguage.Env env) {
+    return env.getOptions().get(MEMOIZE_THUNKS_KEY);
+  }
+
+  /**
+   * An option to make suspended arguments call-by-need, so that they are evaluated at most once.
+   *
+   * @return the name of this option
+   */
+  public static String getMemoizeThunksOption() {
+    return MEMOIZE_THUNKS;
+  }
+
+  /**
+   * Checks whether the translated modules of packages should be cached on disk in the current run.
+   *
+   * @param env the current run environment
+   * @return {@code true} if modules should be cached, {@code false} otherwise
+   */
+  public static boolean shouldCacheModules(TruffleLanguage.Env env) {
+    return env.getOptions().get(CACHE_MODULES_KEY);
+  }
+
+  /**
+   * An option to store the translated modules of packages in a cache directory of each package, so
+   * that unchanged modules don't need to be parsed again in later runs. Disabled by default, as it
+   * writes into the directories of the packages in use.
+   *
+   * @return the name of this option
+   */
+  public static String getCacheModulesOption() {
+    return CACHE_MODULES;
+  }
 }
@@ -1,14 +1,25 @@
 package org.enso.interpreter.runtime.callable;
 
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.Frame;
+import com.oracle.truffle.api.frame.FrameInstance;
 import com.oracle.truffle.api.frame.MaterializedFrame;
+import com.oracle.truffle.api.nodes.RootNode;
 import org.enso.interpreter.runtime.scope.LocalScope;
 import org.enso.interpreter.runtime.scope.ModuleScope;
 
 /**
  * Represents the caller execution context, to be passed to functions that declare the need for it.
+ *
+ * <p>The caller's frame is either captured eagerly, or located on the call stack the first time it
+ * is requested. See Note [Lazy Caller Frames].
  */
 public class CallerInfo {
-  private final MaterializedFrame frame;
+  private MaterializedFrame frame;
+  private final RootNode callerRoot;
+  private final Object[] callerArguments;
   private final LocalScope localScope;
   private final ModuleScope moduleScope;
 
@@ -21,6 +32,31 @@ public class CallerInfo {
    */
   public CallerInfo(MaterializedFrame frame, LocalScope localScope, ModuleScope moduleScope) {
     this.frame = frame;
+    this.callerRoot = null;
+    this.callerArguments = null;
+    this.localScope = localScope;
+    this.moduleScope = moduleScope;
+  }
+
+  /**
+   * Creates a new instance of caller information, where the caller's frame is only obtained from
+   * the call stack when it is first requested.
+   *
+   * <p>The caller info must only be used while the caller is still on the call stack.
+   *
+   * @param callerRoot the root node the caller is executing
+   * @param callerArguments the arguments of the caller's execution frame
+   * @param localScope the local scope caller uses
+   * @param moduleScope the module scope caller was defined in
+   */
+  public CallerInfo(
+      RootNode callerRoot,
+      Object[] callerArguments,
+      LocalScope localScope,
+      ModuleScope moduleScope) {
+    this.frame = null;
+    this.callerRoot = callerRoot;
+    this.callerArguments = callerArguments;
     this.localScope = localScope;
     this.moduleScope = moduleScope;
   }
@@ -31,9 +67,35 @@ public class CallerInfo {
    * @return the caller's execution frame
    */
   public MaterializedFrame getFrame() {
+    if (frame == null) {
+      frame = findCallerFrame();
+    }
     return frame;
   }
 
+  @CompilerDirectives.TruffleBoundary
+  private MaterializedFrame findCallerFrame() {
+    MaterializedFrame callerFrame =
+        Truffle.getRuntime()
+            .iterateFrames(
+                instance -> {
+                  if (!(instance.getCallTarget() instanceof RootCallTarget)
+                      || ((RootCallTarget) instance.getCallTarget()).getRootNode() != callerRoot) {
+                    return null;
+                  }
+                  // Read-only frames may copy the arguments, so they can't be used to compare.
+                  Frame candidate = instance.getFrame(FrameInstance.FrameAccess.MATERIALIZE);
+                  if (candidate.getArguments() != callerArguments) {
+                    return null;
+                  }
+                  return candidate.materialize();
+                });
+    if (callerFrame == null) {
+      throw new IllegalStateException("The caller frame is no longer on the call stack.");
+    }
+    return callerFrame;
+  }
+
   /**
    * Gets the caller's local scope metadata.
    *
@@ -51,4 +113,19 @@ public class CallerInfo {
   public ModuleScope getModuleScope() {
     return moduleScope;
   }
+
+  /* Note [Lazy Caller Frames]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~
+   * Materializing the caller's frame for every call to a function requesting caller info (e.g.
+   * `Debug.eval`) forces the whole frame of the caller onto the heap, even if the call site is on a
+   * branch that is almost never taken. Instead, for calls in non-tail positions the caller is still
+   * on the call stack while the callee runs, so the frame can be found through Truffle's frame
+   * iteration API, identified by its root node and its arguments array. The compiler then only
+   * has to materialize the frame (deoptimizing the caller if needed) when it is actually read.
+   *
+   * This is not possible for calls in tail positions, whose callers return before the call is
+   * made, nor for frames that Truffle does not know about, like the frames of the self tail call
+   * loop in `ClosureRootNode`. In these cases the frame is materialized eagerly, see
+   * `CaptureCallerInfoNode`.
+   */
 }
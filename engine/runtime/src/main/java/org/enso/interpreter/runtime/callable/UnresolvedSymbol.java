@@ -1,5 +1,6 @@
 package org.enso.interpreter.runtime.callable;
 
+import com.oracle.truffle.api.Assumption;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.interop.TruffleObject;
 import org.enso.interpreter.runtime.callable.atom.AtomConstructor;
@@ -34,6 +35,15 @@ public class UnresolvedSymbol implements TruffleObject {
     return name;
   }
 
+  /**
+   * Gets an assumption that the resolution of this symbol has not changed since it was obtained.
+   *
+   * @return an assumption invalidated whenever a method of this name is redefined
+   */
+  public Assumption getMethodAssumption() {
+    return scope.getMethodAssumption(name);
+  }
+
   /**
    * Resolves the symbol for a given constructor.
    *
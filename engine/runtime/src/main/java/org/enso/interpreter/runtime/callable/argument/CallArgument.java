@@ -1,11 +1,13 @@
 package org.enso.interpreter.runtime.callable.argument;
 
 import com.oracle.truffle.api.RootCallTarget;
+import org.enso.interpreter.node.ExpressionNode;
 
 /** Tracks the specifics about how arguments are specified at a call site. */
 public class CallArgument {
   private final String name;
   private final RootCallTarget expression;
+  private final ExpressionNode eagerValue;
 
   /**
    * Creates an argument passed positionally.
@@ -25,8 +27,20 @@ public class CallArgument {
   public CallArgument(String name, RootCallTarget expression) {
     this.name = name;
     this.expression = expression;
+    this.eagerValue = null;
   }
 
+  /**
+   * Creates an argument that is evaluated at the call site, rather than passed as a thunk.
+   *
+   * @param name the name of the argument being applied, or {@code null} if it is positional
+   * @param eagerValue the node computing the value of the argument in the caller's frame
+   */
+  public CallArgument(String name, ExpressionNode eagerValue) {
+    this.name = name;
+    this.expression = null;
+    this.eagerValue = eagerValue;
+  }
 
   /**
    * Checks if the argument is passed by name.
@@ -55,12 +69,33 @@ public class CallArgument {
     return this.name;
   }
 
+  /**
+   * Checks if the argument is evaluated at the call site.
+   *
+   * @return {@code true} if the argument is evaluated eagerly, {@code false} if it is passed as a
+   *     thunk
+   */
+  public boolean isEager() {
+    return eagerValue != null;
+  }
+
   /**
    * Gets the expression representing the argument's value.
    *
-   * @return the expression representing the value of the argument
+   * @return the expression representing the value of the argument, or {@code null} if the argument
+   *     is evaluated eagerly
    */
   public RootCallTarget getExpression() {
     return expression;
   }
+
+  /**
+   * Gets the node computing the argument's value at the call site.
+   *
+   * @return the node computing the value of the argument, or {@code null} if the argument is passed
+   *     as a thunk
+   */
+  public ExpressionNode getEagerValue() {
+    return eagerValue;
+  }
 }
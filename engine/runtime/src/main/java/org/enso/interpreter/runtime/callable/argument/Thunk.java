@@ -4,10 +4,18 @@ import com.oracle.truffle.api.CallTarget;
 import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.frame.MaterializedFrame;
 
-/** Runtime representation of a suspended function argument. */
+/**
+ * Runtime representation of a suspended function argument.
+ *
+ * <p>A thunk can optionally be memoizing, in which case it is evaluated at most once. See Note
+ * [Memoizing Thunks].
+ */
 public class Thunk {
   private final RootCallTarget callTarget;
-  private final MaterializedFrame scope;
+  private final boolean memoizing;
+  private volatile MaterializedFrame scope;
+  private volatile boolean evaluated = false;
+  private Object value = null;
 
   /**
    * Creates a runtime thunk.
@@ -16,8 +24,20 @@ public class Thunk {
    * @param scope the caller scope used for evaluating the {@code callTarget}
    */
   public Thunk(RootCallTarget callTarget, MaterializedFrame scope) {
+    this(callTarget, scope, false);
+  }
+
+  /**
+   * Creates a runtime thunk.
+   *
+   * @param callTarget the {@link CallTarget} representing the argument's expression
+   * @param scope the caller scope used for evaluating the {@code callTarget}
+   * @param memoizing whether the value of this thunk should be reused after it is first computed
+   */
+  public Thunk(RootCallTarget callTarget, MaterializedFrame scope, boolean memoizing) {
     this.callTarget = callTarget;
     this.scope = scope;
+    this.memoizing = memoizing;
   }
 
   /**
@@ -32,9 +52,75 @@ public class Thunk {
   /**
    * Returns the caller scope.
    *
-   * @return the caller scope used for evaluating this thunk.
+   * @return the caller scope used for evaluating this thunk, or {@code null} if this thunk has
+   *     already been evaluated and memoized
    */
   public MaterializedFrame getScope() {
     return scope;
   }
+
+  /**
+   * Checks whether this thunk keeps its value after being evaluated.
+   *
+   * @return {@code true} if this thunk is memoizing, {@code false} otherwise
+   */
+  public boolean isMemoizing() {
+    return memoizing;
+  }
+
+  /**
+   * Checks whether the value of this thunk has already been computed.
+   *
+   * @return {@code true} if the memoized value is available, {@code false} otherwise
+   */
+  public boolean isEvaluated() {
+    return evaluated;
+  }
+
+  /**
+   * Gets the memoized value of this thunk. Must only be called if {@link #isEvaluated()}.
+   *
+   * @return the value this thunk evaluated to
+   */
+  public Object getValue() {
+    return value;
+  }
+
+  /**
+   * Stores the value of this thunk, if it is memoizing, and releases the captured scope.
+   *
+   * @param value the value this thunk evaluated to
+   */
+  public void memoize(Object value) {
+    if (memoizing) {
+      this.value = value;
+      this.evaluated = true;
+      this.scope = null;
+    }
+  }
+
+  /* Note [Memoizing Thunks]
+   * ~~~~~~~~~~~~~~~~~~~~~~~
+   * By default thunks are call-by-name: every force re-executes the suspended expression, which
+   * repeats its work and its effects. A memoizing thunk is call-by-need instead. The first force
+   * runs the expression and stores the value, and any later force returns that value without
+   * running anything. The state passed to later forces is returned unchanged, because the effects
+   * of the expression happened only once.
+   *
+   * Once the value is stored, the thunk drops the materialized caller frame it captured, so that
+   * the frame can be collected even if the thunk is still reachable. Tail calls are never stored,
+   * as they are not values, so a thunk forced in a tail position is only memoized if it runs to
+   * completion there.
+   *
+   * Because this changes when effects happen, memoization is opt-in, through the
+   * `enso.memoizeThunks` runtime option.
+   *
+   * A thunk may be forced from multiple threads at once, in which case it can be evaluated more
+   * than once, and the last value stored wins. The value is written before the volatile
+   * `evaluated` flag, so a thread observing the flag also observes the value. A thread that has
+   * started forcing the thunk before another one memoized it may find the scope already dropped,
+   * so `ThunkExecutorNode` reads the scope only once, and falls back to the memoized value if it
+   * is gone. The scope is volatile as well and dropped after the value is written, so a thread
+   * observing it dropped also observes the value.
+   */
 }
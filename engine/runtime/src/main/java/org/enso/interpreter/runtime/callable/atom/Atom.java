@@ -1,27 +1,28 @@
 package org.enso.interpreter.runtime.callable.atom;
 
 import com.oracle.truffle.api.CompilerDirectives;
-import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.interop.TruffleObject;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-/** A runtime representation of an Atom in Enso. */
-public class Atom implements TruffleObject {
+/**
+ * A runtime representation of an Atom in Enso.
+ *
+ * <p>The storage of the fields is determined by the {@link AtomLayout} chosen by the Atom's
+ * constructor. See Note [Atom Layouts].
+ */
+public abstract class Atom implements TruffleObject {
   private final AtomConstructor constructor;
-  private @CompilationFinal(dimensions = 1) Object[] fields;
 
   /**
    * Creates a new Atom for a given constructor.
    *
    * @param constructor the Atom's constructor
-   * @param fields the Atom's fields
    */
-  public Atom(AtomConstructor constructor, Object... fields) {
+  protected Atom(AtomConstructor constructor) {
     this.constructor = constructor;
-    this.fields = fields;
   }
 
   /**
@@ -33,14 +34,41 @@ public class Atom implements TruffleObject {
     return constructor;
   }
 
+  /**
+   * Gets the number of fields stored in this Atom.
+   *
+   * @return the number of fields of this Atom
+   */
+  public abstract int getArity();
+
+  /**
+   * Gets a single field of this Atom.
+   *
+   * @param index the position of the field
+   * @return the value of the field at {@code index}
+   */
+  public abstract Object getField(int index);
+
   /**
    * Gets the fields from the Atom.
    *
+   * <p>The resulting array is safe to be passed as function arguments, but must not be mutated.
+   *
    * @return this Atom's fields
    */
-  public Object[] getFields() {
-    return fields;
-  }
+  public abstract Object[] getFields();
+
+  /* Note [Atom Layouts]
+   * ~~~~~~~~~~~~~~~~~~~
+   * Storing every field in a boxed `Object[]` means that constructing an atom like `Cons 1 Nil`
+   * allocates the atom, the array and a `Long` for the head. Instead, atoms of small arities are
+   * represented by classes with a fixed number of slots, where slots are kept as unboxed `long`s
+   * for as long as the constructor has only ever been given `long` values for them.
+   *
+   * The layout is speculated per constructor (see `AtomConstructor#newInstance`), starting from
+   * the most specific one and generalizing on the first value that doesn't fit. Existing atoms
+   * keep their layout, so all code reading fields must go through the accessors defined here.
+   */
 
   /**
    * Creates a textual representation of this Atom, useful for debugging.
@@ -54,7 +82,7 @@ public class Atom implements TruffleObject {
     builder.append(getConstructor().getName());
     builder.append("<");
     List<String> fieldStrings =
-        Arrays.stream(fields).map(Object::toString).collect(Collectors.toList());
+        Arrays.stream(getFields()).map(Object::toString).collect(Collectors.toList());
     builder.append(String.join(", ", fieldStrings));
     builder.append(">");
 
@@ -20,6 +20,7 @@ public class AtomConstructor implements TruffleObject {
   private final String name;
   private final ModuleScope definitionScope;
   private @CompilerDirectives.CompilationFinal Atom cachedInstance;
+  private volatile @CompilerDirectives.CompilationFinal AtomLayout layout;
   private @CompilerDirectives.CompilationFinal Function constructorFunction;
 
   /**
@@ -43,8 +44,9 @@ public class AtomConstructor implements TruffleObject {
   public AtomConstructor initializeFields(ArgumentDefinition... args) {
     CompilerDirectives.transferToInterpreterAndInvalidate();
     this.constructorFunction = buildConstructorFunction(args);
+    this.layout = AtomLayout.initial(args.length);
     if (args.length == 0) {
-      cachedInstance = new Atom(this);
+      cachedInstance = layout.newInstance(this, new Object[0]);
     } else {
       cachedInstance = null;
     }
@@ -107,12 +109,39 @@ public class AtomConstructor implements TruffleObject {
   /**
    * Creates a new runtime instance of the Atom represented by this constructor.
    *
+   * <p>If the arguments do not fit the current layout, it is generalized and any code compiled
+   * against it is invalidated. See Note [Atom Layouts].
+   *
    * @param arguments the runtime arguments to the constructor
    * @return a new instance of the atom represented by this constructor
    */
   public Atom newInstance(Object... arguments) {
     if (cachedInstance != null) return cachedInstance;
-    return new Atom(this, arguments);
+    AtomLayout currentLayout = layout;
+    if (!currentLayout.accepts(arguments)) {
+      CompilerDirectives.transferToInterpreterAndInvalidate();
+      currentLayout = generalizeLayout(arguments);
+    }
+    return currentLayout.newInstance(this, arguments);
+  }
+
+  /**
+   * Generalizes the current layout so that it accepts the given arguments.
+   *
+   * <p>Generalization happens under a lock, so that a layout published by another thread in the
+   * meantime is generalized further rather than overwritten.
+   *
+   * @param arguments the runtime arguments that did not fit the layout
+   * @return a layout accepting {@code arguments}, which is now the current layout
+   */
+  @CompilerDirectives.TruffleBoundary
+  private synchronized AtomLayout generalizeLayout(Object[] arguments) {
+    AtomLayout currentLayout = layout;
+    if (!currentLayout.accepts(arguments)) {
+      currentLayout = currentLayout.generalize(arguments);
+      layout = currentLayout;
+    }
+    return currentLayout;
   }
 
   /**
@@ -0,0 +1,336 @@
+package org.enso.interpreter.runtime.callable.atom;
+
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+
+import java.util.Arrays;
+
+/**
+ * Describes the way fields are stored in atoms created by a given {@link AtomConstructor}.
+ *
+ * <p>Atoms of arity up to {@link #MAX_FIXED_ARITY} store their fields in fixed slots, while fields
+ * of atoms with arity up to {@link #MAX_UNBOXED_ARITY} can additionally be stored as unboxed {@code
+ * long}s. All other atoms fall back to a boxed array of fields.
+ */
+public final class AtomLayout {
+  /** The largest arity for which the fields are stored in fixed slots. */
+  public static final int MAX_FIXED_ARITY = 3;
+
+  /** The largest arity for which the fields can be stored as unboxed {@code long}s. */
+  public static final int MAX_UNBOXED_ARITY = 2;
+
+  private final int arity;
+  private final @CompilationFinal(dimensions = 1) boolean[] unboxedLongs;
+
+  private AtomLayout(int arity, boolean[] unboxedLongs) {
+    this.arity = arity;
+    this.unboxedLongs = unboxedLongs;
+  }
+
+  /**
+   * Creates the most specific layout for a given arity, where all the fields that can be unboxed
+   * are speculated to be {@code long}s.
+   *
+   * @param arity the number of fields of the atoms
+   * @return the initial layout for atoms of {@code arity}
+   */
+  public static AtomLayout initial(int arity) {
+    boolean[] unboxedLongs = new boolean[arity];
+    if (arity <= MAX_UNBOXED_ARITY) {
+      Arrays.fill(unboxedLongs, true);
+    }
+    return new AtomLayout(arity, unboxedLongs);
+  }
+
+  /**
+   * Checks whether the given field values can be stored using this layout.
+   *
+   * @param values the values of the fields
+   * @return {@code true} if all the values fit their slots, {@code false} otherwise
+   */
+  @ExplodeLoop
+  public boolean accepts(Object[] values) {
+    for (int i = 0; i < unboxedLongs.length; i++) {
+      if (unboxedLongs[i] && !(values[i] instanceof Long)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Creates a layout able to store the given values, as well as any values accepted by this
+   * layout.
+   *
+   * @param values the values of the fields that did not fit this layout
+   * @return a more general layout accepting {@code values}
+   */
+  public AtomLayout generalize(Object[] values) {
+    boolean[] newUnboxedLongs = new boolean[arity];
+    for (int i = 0; i < arity; i++) {
+      newUnboxedLongs[i] = unboxedLongs[i] && values[i] instanceof Long;
+    }
+    return new AtomLayout(arity, newUnboxedLongs);
+  }
+
+  /**
+   * Checks whether the field at a given position is stored as an unboxed {@code long}.
+   *
+   * @param index the position of the field
+   * @return {@code true} if the field is stored unboxed, {@code false} otherwise
+   */
+  public boolean isUnboxedLong(int index) {
+    return unboxedLongs[index];
+  }
+
+  /**
+   * Creates a new atom using this layout. The values must be accepted by this layout.
+   *
+   * @param constructor the constructor of the atom
+   * @param values the values of the fields
+   * @return a new atom storing {@code values}
+   */
+  public Atom newInstance(AtomConstructor constructor, Object[] values) {
+    switch (arity) {
+      case 1:
+        if (unboxedLongs[0]) {
+          return new LongAtom1(constructor, (Long) values[0]);
+        }
+        return new ObjectAtom1(constructor, values[0]);
+      case 2:
+        if (unboxedLongs[0]) {
+          if (unboxedLongs[1]) {
+            return new LongLongAtom2(constructor, (Long) values[0], (Long) values[1]);
+          }
+          return new LongObjectAtom2(constructor, (Long) values[0], values[1]);
+        }
+        if (unboxedLongs[1]) {
+          return new ObjectLongAtom2(constructor, values[0], (Long) values[1]);
+        }
+        return new ObjectObjectAtom2(constructor, values[0], values[1]);
+      case MAX_FIXED_ARITY:
+        return new ObjectAtom3(constructor, values[0], values[1], values[2]);
+      default:
+        return new BoxedAtom(constructor, values);
+    }
+  }
+
+  /** An atom storing its fields in an array, used for nullary atoms and large arities. */
+  static final class BoxedAtom extends Atom {
+    private final @CompilationFinal(dimensions = 1) Object[] fields;
+
+    BoxedAtom(AtomConstructor constructor, Object[] fields) {
+      super(constructor);
+      this.fields = fields;
+    }
+
+    @Override
+    public int getArity() {
+      return fields.length;
+    }
+
+    @Override
+    public Object getField(int index) {
+      return fields[index];
+    }
+
+    @Override
+    public Object[] getFields() {
+      return fields;
+    }
+  }
+
+  /** An atom with a single {@code long} field. */
+  static final class LongAtom1 extends Atom {
+    private final long field0;
+
+    LongAtom1(AtomConstructor constructor, long field0) {
+      super(constructor);
+      this.field0 = field0;
+    }
+
+    @Override
+    public int getArity() {
+      return 1;
+    }
+
+    @Override
+    public Object getField(int index) {
+      return field0;
+    }
+
+    @Override
+    public Object[] getFields() {
+      return new Object[] {field0};
+    }
+  }
+
+  /** An atom with a single boxed field. */
+  static final class ObjectAtom1 extends Atom {
+    private final Object field0;
+
+    ObjectAtom1(AtomConstructor constructor, Object field0) {
+      super(constructor);
+      this.field0 = field0;
+    }
+
+    @Override
+    public int getArity() {
+      return 1;
+    }
+
+    @Override
+    public Object getField(int index) {
+      return field0;
+    }
+
+    @Override
+    public Object[] getFields() {
+      return new Object[] {field0};
+    }
+  }
+
+  /** An atom with two {@code long} fields. */
+  static final class LongLongAtom2 extends Atom {
+    private final long field0;
+    private final long field1;
+
+    LongLongAtom2(AtomConstructor constructor, long field0, long field1) {
+      super(constructor);
+      this.field0 = field0;
+      this.field1 = field1;
+    }
+
+    @Override
+    public int getArity() {
+      return 2;
+    }
+
+    @Override
+    public Object getField(int index) {
+      return index == 0 ? field0 : field1;
+    }
+
+    @Override
+    public Object[] getFields() {
+      return new Object[] {field0, field1};
+    }
+  }
+
+  /** An atom with a {@code long} field followed by a boxed field. */
+  static final class LongObjectAtom2 extends Atom {
+    private final long field0;
+    private final Object field1;
+
+    LongObjectAtom2(AtomConstructor constructor, long field0, Object field1) {
+      super(constructor);
+      this.field0 = field0;
+      this.field1 = field1;
+    }
+
+    @Override
+    public int getArity() {
+      return 2;
+    }
+
+    @Override
+    public Object getField(int index) {
+      return index == 0 ? field0 : field1;
+    }
+
+    @Override
+    public Object[] getFields() {
+      return new Object[] {field0, field1};
+    }
+  }
+
+  /** An atom with a boxed field followed by a {@code long} field. */
+  static final class ObjectLongAtom2 extends Atom {
+    private final Object field0;
+    private final long field1;
+
+    ObjectLongAtom2(AtomConstructor constructor, Object field0, long field1) {
+      super(constructor);
+      this.field0 = field0;
+      this.field1 = field1;
+    }
+
+    @Override
+    public int getArity() {
+      return 2;
+    }
+
+    @Override
+    public Object getField(int index) {
+      return index == 0 ? field0 : field1;
+    }
+
+    @Override
+    public Object[] getFields() {
+      return new Object[] {field0, field1};
+    }
+  }
+
+  /** An atom with two boxed fields. */
+  static final class ObjectObjectAtom2 extends Atom {
+    private final Object field0;
+    private final Object field1;
+
+    ObjectObjectAtom2(AtomConstructor constructor, Object field0, Object field1) {
+      super(constructor);
+      this.field0 = field0;
+      this.field1 = field1;
+    }
+
+    @Override
+    public int getArity() {
+      return 2;
+    }
+
+    @Override
+    public Object getField(int index) {
+      return index == 0 ? field0 : field1;
+    }
+
+    @Override
+    public Object[] getFields() {
+      return new Object[] {field0, field1};
+    }
+  }
+
+  /** An atom with three boxed fields. */
+  static final class ObjectAtom3 extends Atom {
+    private final Object field0;
+    private final Object field1;
+    private final Object field2;
+
+    ObjectAtom3(AtomConstructor constructor, Object field0, Object field1, Object field2) {
+      super(constructor);
+      this.field0 = field0;
+      this.field1 = field1;
+      this.field2 = field2;
+    }
+
+    @Override
+    public int getArity() {
+      return 3;
+    }
+
+    @Override
+    public Object getField(int index) {
+      switch (index) {
+        case 0:
+          return field0;
+        case 1:
+          return field1;
+        default:
+          return field2;
+      }
+    }
+
+    @Override
+    public Object[] getFields() {
+      return new Object[] {field0, field1, field2};
+    }
+  }
+}
@@ -24,7 +24,6 @@ import org.enso.interpreter.runtime.Context;
 import org.enso.interpreter.runtime.callable.CallerInfo;
 import org.enso.interpreter.runtime.callable.argument.ArgumentDefinition;
 import org.enso.interpreter.runtime.callable.argument.CallArgumentInfo;
-import org.enso.interpreter.runtime.callable.argument.Thunk;
 
 /** A runtime representation of a function object in Enso. */
 @ExportLibrary(InteropLibrary.class)
@@ -264,14 +263,25 @@ public final class Function implements TruffleObject {
     }
 
     /**
-     * Generates an array of arguments using the schema to be passed to a call target.
+     * Generates an array of arguments using the schema to be passed to the call target of a thunk.
      *
-     * @param thunk the thunk to be called
+     * @param scope the caller scope captured by the thunk
      * @param state the state to execute the thunk with
      * @return an array containing the necessary information to call an Enso thunk
      */
-    public static Object[] buildArguments(Thunk thunk, Object state) {
-      return new Object[] {thunk.getScope(), null, state, new Object[0]};
+    public static Object[] buildArguments(MaterializedFrame scope, Object state) {
+      return new Object[] {scope, null, state, new Object[0]};
+    }
+
+    /**
+     * Generates an array of arguments for a closure environment frame, linking it to the scope the
+     * function was defined in.
+     *
+     * @param scope the scope the function was defined in
+     * @return an array containing the necessary information to find the enclosing scope
+     */
+    public static Object[] buildEnvironmentArguments(MaterializedFrame scope) {
+      return new Object[] {scope, null, null, new Object[0]};
     }
 
     /**
@@ -0,0 +1,85 @@
+package org.enso.interpreter.runtime.control;
+
+import org.enso.interpreter.runtime.callable.CallerInfo;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.state.Stateful;
+
+/**
+ * Used to model the switch of control-flow from standard stack-based execution to looping.
+ *
+ * <p>A call in a tail position returns an instance of this class in place of its result. It is
+ * passed through unchanged by the nodes in tail positions until it reaches the nearest enclosing
+ * loop, which then performs the call. This is used as part of the tail-call optimisation
+ * functionality in the interpreter. See Note [Tail Call Results].
+ */
+public final class TailCall extends Stateful {
+  private final Function function;
+  private final CallerInfo callerInfo;
+  private final Object[] arguments;
+
+  /**
+   * Creates a new tail call containing the necessary data to continue computation.
+   *
+   * @param function the function to execute in a loop
+   * @param callerInfo the caller info to pass to the function
+   * @param state the state to pass to the function
+   * @param arguments the arguments to {@code function}
+   */
+  public TailCall(Function function, CallerInfo callerInfo, Object state, Object[] arguments) {
+    super(state, null);
+    this.function = function;
+    this.callerInfo = callerInfo;
+    this.arguments = arguments;
+  }
+
+  /**
+   * Gets the function to execute.
+   *
+   * @return the {@link Function} awaiting execution
+   */
+  public Function getFunction() {
+    return function;
+  }
+
+  /**
+   * Gets the arguments for the function.
+   *
+   * @return the arguments for the associated {@link Function}
+   */
+  public Object[] getArguments() {
+    return arguments;
+  }
+
+  /**
+   * Gets the caller info to pass to the function.
+   *
+   * @return the caller info to pass for next call
+   */
+  public CallerInfo getCallerInfo() {
+    return callerInfo;
+  }
+
+  /**
+   * Returns this tail call, so that it becomes the value of the expression in a tail position.
+   *
+   * @return this tail call
+   */
+  @Override
+  public Object getValue() {
+    return this;
+  }
+
+  /* Note [Tail Call Results]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~
+   * Tail calls used to be signalled by throwing an exception carrying the next call. That meant an
+   * exception allocation and a stack unwind on every iteration of a tail-recursive loop, which is
+   * expensive whenever the throwing and catching code are compiled separately.
+   *
+   * Instead, a tail call returns a `TailCall` as its `Stateful` result. As the call is in a tail
+   * position, every node between it and the enclosing `ClosureRootNode` just returns the value it
+   * gets (`getValue` returns the tail call itself), and the root node returns it as-is, without
+   * wrapping it in a new `Stateful`. Any code executing a call in a non-tail position must
+   * therefore check the result for a `TailCall` and run it in a loop (see
+   * `LoopingCallOptimiserNode`).
+   */
+}
@@ -0,0 +1,430 @@
+package org.enso.interpreter.runtime.data;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.interop.TruffleObject;
+import org.enso.interpreter.runtime.callable.atom.Atom;
+import org.enso.interpreter.runtime.number.EnsoBigInteger;
+
+/**
+ * A runtime representation of immutable maps in Enso.
+ *
+ * <p>Maps are hash array mapped tries, so that inserting or removing a key only copies the nodes
+ * on the path to that key, and shares all the others with the original map. See Note [Hash Array
+ * Mapped Tries].
+ *
+ * <p>Keys are compared structurally: numbers and texts by value, and atoms by their constructor
+ * and fields. Any other values, like functions, are compared by identity.
+ */
+public final class EnsoMap implements TruffleObject {
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+  private static final EnsoMap EMPTY = new EnsoMap(null, 0);
+
+  private final TrieNode root;
+  private final int size;
+
+  private EnsoMap(TrieNode root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Gets the map with no entries.
+   *
+   * @return an empty map
+   */
+  public static EnsoMap empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Gets the number of entries in this map.
+   *
+   * @return the size of this map
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Looks up the value associated with a key.
+   *
+   * @param key the key to look up
+   * @return the value associated with {@code key}, or {@code null} if there is none
+   */
+  @CompilerDirectives.TruffleBoundary
+  public Object lookup(Object key) {
+    return root == null ? null : root.find(hash(key), 0, key);
+  }
+
+  /**
+   * Associates a value with a key, replacing the previous value of the key if there is one.
+   *
+   * @param key the key to insert
+   * @param value the value to associate with {@code key}
+   * @return a map with the entries of this map and the new entry
+   */
+  @CompilerDirectives.TruffleBoundary
+  public EnsoMap insert(Object key, Object value) {
+    Change change = new Change();
+    int hash = hash(key);
+    TrieNode newRoot =
+        root == null
+            ? BitmapNode.EMPTY.insert(hash, 0, key, value, change)
+            : root.insert(hash, 0, key, value, change);
+    return newRoot == root ? this : new EnsoMap(newRoot, change.sizeChanged ? size + 1 : size);
+  }
+
+  /**
+   * Removes a key from this map.
+   *
+   * @param key the key to remove
+   * @return a map with the entries of this map, except the one for {@code key}
+   */
+  @CompilerDirectives.TruffleBoundary
+  public EnsoMap remove(Object key) {
+    if (root == null) {
+      return this;
+    }
+    Change change = new Change();
+    TrieNode newRoot = root.remove(hash(key), 0, key, change);
+    if (!change.sizeChanged) {
+      return this;
+    }
+    return size == 1 ? EMPTY : new EnsoMap(newRoot, size - 1);
+  }
+
+  /**
+   * Lists the entries of this map.
+   *
+   * @return an array holding the key of each entry followed by its value
+   */
+  @CompilerDirectives.TruffleBoundary
+  public Object[] toEntries() {
+    Object[] entries = new Object[2 * size];
+    if (root != null) {
+      root.collect(entries, 0);
+    }
+    return entries;
+  }
+
+  /**
+   * Represents this map as a string.
+   *
+   * @return a string representation of this map
+   */
+  @Override
+  @CompilerDirectives.TruffleBoundary
+  public String toString() {
+    Object[] entries = toEntries();
+    StringBuilder builder = new StringBuilder("{");
+    for (int i = 0; i < entries.length; i += 2) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append(entries[i]).append(": ").append(entries[i + 1]);
+    }
+    return builder.append("}").toString();
+  }
+
+  /**
+   * Computes the hash of a key, consistently with {@link #equal(Object, Object)}.
+   *
+   * @param key the key to hash
+   * @return the hash of {@code key}
+   */
+  static int hash(Object key) {
+    if (key instanceof Text || key instanceof String) {
+      return key.toString().hashCode();
+    } else if (key instanceof Long || key instanceof Double) {
+      return key.hashCode();
+    } else if (key instanceof EnsoBigInteger) {
+      return ((EnsoBigInteger) key).getValue().hashCode();
+    } else if (key instanceof Atom) {
+      Atom atom = (Atom) key;
+      int hash = System.identityHashCode(atom.getConstructor());
+      for (int i = 0; i < atom.getArity(); i++) {
+        hash = 31 * hash + hash(atom.getField(i));
+      }
+      return hash;
+    }
+    return System.identityHashCode(key);
+  }
+
+  /**
+   * Checks whether two keys are equal.
+   *
+   * @param left the first key
+   * @param right the second key
+   * @return {@code true} if the keys are equal, {@code false} otherwise
+   */
+  static boolean equal(Object left, Object right) {
+    if (left == right) {
+      return true;
+    } else if (left instanceof Text || left instanceof String) {
+      return (right instanceof Text || right instanceof String)
+          && left.toString().equals(right.toString());
+    } else if (left instanceof Long || left instanceof Double) {
+      return left.equals(right);
+    } else if (left instanceof EnsoBigInteger) {
+      return right instanceof EnsoBigInteger
+          && ((EnsoBigInteger) left).getValue().equals(((EnsoBigInteger) right).getValue());
+    } else if (left instanceof Atom) {
+      if (!(right instanceof Atom)) {
+        return false;
+      }
+      Atom leftAtom = (Atom) left;
+      Atom rightAtom = (Atom) right;
+      if (leftAtom.getConstructor() != rightAtom.getConstructor()) {
+        return false;
+      }
+      for (int i = 0; i < leftAtom.getArity(); i++) {
+        if (!equal(leftAtom.getField(i), rightAtom.getField(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /** Records whether an update changed the number of entries. */
+  private static final class Change {
+    private boolean sizeChanged = false;
+  }
+
+  /** A node of the trie. */
+  private abstract static class TrieNode {
+    abstract Object find(int hash, int shift, Object key);
+
+    abstract TrieNode insert(int hash, int shift, Object key, Object value, Change change);
+
+    abstract TrieNode remove(int hash, int shift, Object key, Change change);
+
+    abstract int collect(Object[] entries, int position);
+  }
+
+  /**
+   * A node dispatching on 5 bits of the hash. The entries are stored in an array of pairs, where
+   * each pair is either a key and its value, or {@code null} and the child node for the keys whose
+   * hashes share these bits.
+   */
+  private static final class BitmapNode extends TrieNode {
+    private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+    private final int bitmap;
+    private final Object[] array;
+
+    private BitmapNode(int bitmap, Object[] array) {
+      this.bitmap = bitmap;
+      this.array = array;
+    }
+
+    private static int bit(int hash, int shift) {
+      return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private int index(int bit) {
+      return 2 * Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @Override
+    Object find(int hash, int shift, Object key) {
+      int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      int index = index(bit);
+      Object entryKey = array[index];
+      if (entryKey == null) {
+        return ((TrieNode) array[index + 1]).find(hash, shift + BITS, key);
+      }
+      return equal(key, entryKey) ? array[index + 1] : null;
+    }
+
+    @Override
+    TrieNode insert(int hash, int shift, Object key, Object value, Change change) {
+      int bit = bit(hash, shift);
+      int index = index(bit);
+      if ((bitmap & bit) == 0) {
+        Object[] newArray = new Object[array.length + 2];
+        System.arraycopy(array, 0, newArray, 0, index);
+        newArray[index] = key;
+        newArray[index + 1] = value;
+        System.arraycopy(array, index, newArray, index + 2, array.length - index);
+        change.sizeChanged = true;
+        return new BitmapNode(bitmap | bit, newArray);
+      }
+      Object entryKey = array[index];
+      Object entryValue = array[index + 1];
+      if (entryKey == null) {
+        TrieNode child = (TrieNode) entryValue;
+        TrieNode newChild = child.insert(hash, shift + BITS, key, value, change);
+        return newChild == child ? this : withEntry(index, null, newChild);
+      } else if (equal(key, entryKey)) {
+        return entryValue == value ? this : withEntry(index, entryKey, value);
+      }
+      change.sizeChanged = true;
+      TrieNode child =
+          createNode(hash(entryKey), entryKey, entryValue, hash, key, value, shift + BITS);
+      return withEntry(index, null, child);
+    }
+
+    @Override
+    TrieNode remove(int hash, int shift, Object key, Change change) {
+      int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int index = index(bit);
+      Object entryKey = array[index];
+      if (entryKey == null) {
+        TrieNode child = (TrieNode) array[index + 1];
+        TrieNode newChild = child.remove(hash, shift + BITS, key, change);
+        if (newChild == child) {
+          return this;
+        }
+        return newChild == null ? without(bit, index) : withEntry(index, null, newChild);
+      } else if (equal(key, entryKey)) {
+        change.sizeChanged = true;
+        return without(bit, index);
+      }
+      return this;
+    }
+
+    @Override
+    int collect(Object[] entries, int position) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (array[i] == null) {
+          position = ((TrieNode) array[i + 1]).collect(entries, position);
+        } else {
+          entries[position++] = array[i];
+          entries[position++] = array[i + 1];
+        }
+      }
+      return position;
+    }
+
+    private BitmapNode withEntry(int index, Object key, Object value) {
+      Object[] newArray = array.clone();
+      newArray[index] = key;
+      newArray[index + 1] = value;
+      return new BitmapNode(bitmap, newArray);
+    }
+
+    private BitmapNode without(int bit, int index) {
+      if (bitmap == bit) {
+        return null;
+      }
+      Object[] newArray = new Object[array.length - 2];
+      System.arraycopy(array, 0, newArray, 0, index);
+      System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+      return new BitmapNode(bitmap ^ bit, newArray);
+    }
+
+    private static TrieNode createNode(
+        int hash1, Object key1, Object value1, int hash2, Object key2, Object value2, int shift) {
+      if (hash1 == hash2) {
+        return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+      }
+      int bit1 = bit(hash1, shift);
+      int bit2 = bit(hash2, shift);
+      if (bit1 == bit2) {
+        TrieNode child = createNode(hash1, key1, value1, hash2, key2, value2, shift + BITS);
+        return new BitmapNode(bit1, new Object[] {null, child});
+      }
+      Object[] array =
+          Integer.compareUnsigned(bit1, bit2) < 0
+              ? new Object[] {key1, value1, key2, value2}
+              : new Object[] {key2, value2, key1, value1};
+      return new BitmapNode(bit1 | bit2, array);
+    }
+  }
+
+  /** A node holding the entries for keys with equal hashes, as an array of keys and values. */
+  private static final class CollisionNode extends TrieNode {
+    private final int hash;
+    private final Object[] array;
+
+    private CollisionNode(int hash, Object[] array) {
+      this.hash = hash;
+      this.array = array;
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (equal(key, array[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    Object find(int hash, int shift, Object key) {
+      int index = this.hash == hash ? indexOf(key) : -1;
+      return index < 0 ? null : array[index + 1];
+    }
+
+    @Override
+    TrieNode insert(int hash, int shift, Object key, Object value, Change change) {
+      if (this.hash != hash) {
+        TrieNode parent =
+            new BitmapNode(BitmapNode.bit(this.hash, shift), new Object[] {null, this});
+        return parent.insert(hash, shift, key, value, change);
+      }
+      int index = indexOf(key);
+      if (index >= 0) {
+        if (array[index + 1] == value) {
+          return this;
+        }
+        Object[] newArray = array.clone();
+        newArray[index + 1] = value;
+        return new CollisionNode(hash, newArray);
+      }
+      Object[] newArray = new Object[array.length + 2];
+      System.arraycopy(array, 0, newArray, 0, array.length);
+      newArray[array.length] = key;
+      newArray[array.length + 1] = value;
+      change.sizeChanged = true;
+      return new CollisionNode(hash, newArray);
+    }
+
+    @Override
+    TrieNode remove(int hash, int shift, Object key, Change change) {
+      int index = this.hash == hash ? indexOf(key) : -1;
+      if (index < 0) {
+        return this;
+      }
+      change.sizeChanged = true;
+      if (array.length == 2) {
+        return null;
+      }
+      Object[] newArray = new Object[array.length - 2];
+      System.arraycopy(array, 0, newArray, 0, index);
+      System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+      return new CollisionNode(hash, newArray);
+    }
+
+    @Override
+    int collect(Object[] entries, int position) {
+      System.arraycopy(array, 0, entries, position, array.length);
+      return position + array.length;
+    }
+  }
+
+  /* Note [Hash Array Mapped Tries]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * A map is a trie indexed by the hashes of its keys, 5 bits per level. Each node only allocates
+   * room for the branches that are actually present, recording which ones these are in a 32-bit
+   * bitmap, so that the position of a branch in the node's array is the number of bits set below
+   * its own. A branch holds either a single entry or a child node for all the keys whose hashes
+   * agree on the bits seen so far. Keys whose hashes are entirely equal end up in a collision node,
+   * which is searched linearly.
+   *
+   * As the trie is at most 7 levels deep, lookups, insertions and removals take effectively
+   * constant time. An update copies only the nodes on the path from the root to the changed entry,
+   * so the old and the new map share all the other nodes, and keeping the old map around costs
+   * little memory.
+   */
+}
@@ -0,0 +1,225 @@
+package org.enso.interpreter.runtime.data;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+
+/**
+ * A runtime representation of text in Enso.
+ *
+ * <p>Text is an immutable rope: either a leaf viewing a range of a Java string, or the
+ * concatenation of two smaller texts. The concatenations are kept balanced, so that both
+ * concatenating and slicing take logarithmic time. The characters are only copied into a single
+ * string when the whole text is needed, e.g. for printing. See Note [Text Ropes].
+ *
+ * <p>Lengths and indices are counted in UTF-16 code units, like those of Java strings.
+ */
+@ExportLibrary(InteropLibrary.class)
+public final class Text implements TruffleObject {
+  private static final int MAX_MERGED_LENGTH = 64;
+  private static final Text EMPTY = new Text("", 0, 0);
+
+  private final String contents;
+  private final int offset;
+  private final Text left;
+  private final Text right;
+  private final int length;
+  private final int depth;
+  private String flattened;
+
+  private Text(String contents, int offset, int length) {
+    this.contents = contents;
+    this.offset = offset;
+    this.left = null;
+    this.right = null;
+    this.length = length;
+    this.depth = 0;
+  }
+
+  private Text(Text left, Text right) {
+    this.contents = null;
+    this.offset = 0;
+    this.left = left;
+    this.right = right;
+    this.length = left.length + right.length;
+    this.depth = Math.max(left.depth, right.depth) + 1;
+  }
+
+  /**
+   * Creates a text holding the characters of a Java string.
+   *
+   * @param string the characters of the text
+   * @return a text representing {@code string}
+   */
+  public static Text create(String string) {
+    return new Text(string, 0, string.length());
+  }
+
+  /**
+   * Gets the number of characters in this text.
+   *
+   * @return the length of this text
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Concatenates this text with another one.
+   *
+   * @param other the text to append to this text
+   * @return a text consisting of the characters of this text followed by those of {@code other}
+   */
+  @CompilerDirectives.TruffleBoundary
+  public Text concat(Text other) {
+    return join(this, other);
+  }
+
+  /**
+   * Takes a slice of this text.
+   *
+   * @param start the index of the first character of the slice, inclusive
+   * @param end the index of the last character of the slice, exclusive
+   * @return a text of the characters of this text from {@code start} to {@code end}
+   */
+  @CompilerDirectives.TruffleBoundary
+  public Text slice(int start, int end) {
+    if (start == 0 && end == length) {
+      return this;
+    } else if (start == end) {
+      return EMPTY;
+    } else if (isLeaf()) {
+      return new Text(contents, offset + start, end - start);
+    }
+    int split = left.length;
+    if (end <= split) {
+      return left.slice(start, end);
+    } else if (start >= split) {
+      return right.slice(start - split, end - split);
+    }
+    return join(left.slice(start, split), right.slice(0, end - split));
+  }
+
+  /**
+   * Splits this text into its characters.
+   *
+   * @return a vector of single-character texts
+   */
+  @CompilerDirectives.TruffleBoundary
+  public Vector toCharacters() {
+    String string = toString();
+    Object[] characters = new Object[length];
+    for (int i = 0; i < length; i++) {
+      characters[i] = new Text(string, i, 1);
+    }
+    return new Vector(characters, 0, length);
+  }
+
+  /**
+   * Represents this text as a Java string, copying its characters into a single string the first
+   * time it is called.
+   *
+   * @return the characters of this text
+   */
+  @Override
+  @CompilerDirectives.TruffleBoundary
+  public String toString() {
+    if (flattened == null) {
+      if (isLeaf()) {
+        flattened = contents.substring(offset, offset + length);
+      } else {
+        StringBuilder builder = new StringBuilder(length);
+        appendTo(builder);
+        flattened = builder.toString();
+      }
+    }
+    return flattened;
+  }
+
+  /**
+   * Marks this object as a string for the polyglot APIs.
+   *
+   * @return {@code true}
+   */
+  @ExportMessage
+  boolean isString() {
+    return true;
+  }
+
+  /**
+   * Converts this text to a Java string for the polyglot APIs.
+   *
+   * @return the characters of this text
+   */
+  @ExportMessage
+  String asString() {
+    return toString();
+  }
+
+  private boolean isLeaf() {
+    return left == null;
+  }
+
+  private void appendTo(StringBuilder builder) {
+    if (flattened != null) {
+      builder.append(flattened);
+    } else if (isLeaf()) {
+      builder.append(contents, offset, offset + length);
+    } else {
+      left.appendTo(builder);
+      right.appendTo(builder);
+    }
+  }
+
+  private static Text join(Text left, Text right) {
+    if (left.length == 0) {
+      return right;
+    } else if (right.length == 0) {
+      return left;
+    } else if (left.length + right.length <= MAX_MERGED_LENGTH) {
+      return create(left.toString() + right.toString());
+    } else if (left.depth > right.depth + 1) {
+      return balance(left.left, join(left.right, right));
+    } else if (right.depth > left.depth + 1) {
+      return balance(join(left, right.left), right.right);
+    }
+    return new Text(left, right);
+  }
+
+  private static Text balance(Text left, Text right) {
+    if (left.depth > right.depth + 1) {
+      if (left.left.depth >= left.right.depth) {
+        return new Text(left.left, new Text(left.right, right));
+      }
+      return new Text(
+          new Text(left.left, left.right.left), new Text(left.right.right, right));
+    } else if (right.depth > left.depth + 1) {
+      if (right.right.depth >= right.left.depth) {
+        return new Text(new Text(left, right.left), right.right);
+      }
+      return new Text(
+          new Text(left, right.left.left), new Text(right.left.right, right.right));
+    }
+    return new Text(left, right);
+  }
+
+  /* Note [Text Ropes]
+   * ~~~~~~~~~~~~~~~~~
+   * Concatenating Java strings copies both of them, so a program building its output piece by
+   * piece takes quadratic time in the length of the output. Text is a rope instead, i.e. a binary
+   * tree whose leaves hold the characters. Concatenating two texts joins their trees, and slicing a
+   * text reuses its subtrees, with leaves sharing the strings of the original leaves.
+   *
+   * The trees are kept balanced like AVL trees: the depths of the two children of a node differ by
+   * at most one. A join descends along the side of the deeper tree until it finds a subtree of a
+   * matching depth, and fixes the balance on the way back up with rotations, so joins and slices
+   * take time logarithmic in the length of the text. Short texts are merged into a single leaf
+   * instead, so that appending characters one at a time does not create a node per character.
+   *
+   * A text is only flattened into a single string when it is needed as a whole, e.g. when it is
+   * printed or passed to another language. The flattened string is cached, so that a text is
+   * flattened at most once.
+   */
+}
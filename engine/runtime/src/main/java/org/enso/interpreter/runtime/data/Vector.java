@@ -0,0 +1,138 @@
+package org.enso.interpreter.runtime.data;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.interop.TruffleObject;
+
+/**
+ * A runtime representation of immutable vectors in Enso.
+ *
+ * <p>The elements are kept in a {@code long[]}, a {@code double[]} or an {@code Object[]}, chosen
+ * when the vector is built, see {@link VectorBuilder}. A vector is a view of a contiguous range of
+ * its storage, so that slices can share the storage of the vector they were taken from. See Note
+ * [Vector Storage].
+ */
+public final class Vector implements TruffleObject {
+  private final Object storage;
+  private final int offset;
+  private final int length;
+
+  /**
+   * Creates a vector viewing a range of a given storage array.
+   *
+   * @param storage the array holding the elements, one of {@code long[]}, {@code double[]} or
+   *     {@code Object[]}
+   * @param offset the index in {@code storage} of the first element of the vector
+   * @param length the number of elements of the vector
+   */
+  Vector(Object storage, int offset, int length) {
+    this.storage = storage;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Gets the storage array of this vector.
+   *
+   * @return the array holding the elements of this vector, starting at {@link #getOffset()}
+   */
+  public Object getStorage() {
+    return storage;
+  }
+
+  /**
+   * Gets the position of the first element of this vector in its storage.
+   *
+   * @return the index of the first element in {@link #getStorage()}
+   */
+  public int getOffset() {
+    return offset;
+  }
+
+  /**
+   * Gets the number of elements in this vector.
+   *
+   * @return the length of this vector
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Checks whether an index points to an element of this vector.
+   *
+   * @param index the index to check
+   * @return {@code true} if {@code index} is within the bounds of this vector, {@code false}
+   *     otherwise
+   */
+  public boolean isValidIndex(long index) {
+    return index >= 0 && index < length;
+  }
+
+  /**
+   * Reads an element of this vector, boxing it if necessary.
+   *
+   * <p>The callers should profile the class of the storage, so that compiled code only checks for
+   * the kind of storage it has seen.
+   *
+   * @param storage the storage of this vector, as returned by {@link #getStorage()}, possibly
+   *     profiled
+   * @param index the index of the element to read, which must be valid
+   * @return the element at {@code index}
+   */
+  public Object readAt(Object storage, int index) {
+    if (storage instanceof long[]) {
+      return ((long[]) storage)[offset + index];
+    } else if (storage instanceof double[]) {
+      return ((double[]) storage)[offset + index];
+    } else {
+      return ((Object[]) storage)[offset + index];
+    }
+  }
+
+  /**
+   * Takes a slice of this vector, sharing its storage.
+   *
+   * @param start the index of the first element of the slice, inclusive
+   * @param end the index of the last element of the slice, exclusive
+   * @return a vector of the elements of this vector from {@code start} to {@code end}
+   */
+  public Vector slice(int start, int end) {
+    return new Vector(storage, offset + start, end - start);
+  }
+
+  /**
+   * Represents this vector as a string.
+   *
+   * @return a string representation of this vector
+   */
+  @Override
+  @CompilerDirectives.TruffleBoundary
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+    for (int i = 0; i < length; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append(readAt(storage, i));
+    }
+    return builder.append("]").toString();
+  }
+
+  /* Note [Vector Storage]
+   * ~~~~~~~~~~~~~~~~~~~~~
+   * Lists built out of `Cons` atoms take O(n) to index and box every element, which makes them a
+   * poor fit for processing large amounts of data. Vectors instead keep their elements in a flat
+   * array, and that array is specialized to the kind of the elements: a vector of integers is
+   * backed by a `long[]` and a vector of decimals by a `double[]`, so that neither boxes its
+   * elements. Vectors of anything else, including vectors mixing integers and decimals, use an
+   * `Object[]`. Keeping integers and decimals apart means that reading an element always gives
+   * back a value of the kind that was stored.
+   *
+   * Vectors are immutable, so the kind of storage is decided once, while the vector is built. The
+   * builder speculates that all the elements will be of the same kind as the first one, and moves
+   * the elements into an `Object[]` on the first element of a different kind.
+   *
+   * The nodes operating on vectors profile the class of the storage, so that compiled code only
+   * contains the accesses for the kinds of storage they have actually seen.
+   */
+}
@@ -0,0 +1,71 @@
+package org.enso.interpreter.runtime.data;
+
+import com.oracle.truffle.api.CompilerDirectives;
+
+/**
+ * A mutable builder for {@link Vector}s of a known length.
+ *
+ * <p>The storage of the vector is chosen based on the first element added, and is converted to an
+ * {@code Object[]} on the first element of a different kind. See Note [Vector Storage].
+ */
+public final class VectorBuilder {
+  private final int capacity;
+  private Object storage;
+  private int size = 0;
+
+  /**
+   * Creates a builder for a vector of a given length.
+   *
+   * @param capacity the number of elements of the vector being built
+   */
+  public VectorBuilder(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * Appends an element to the vector being built.
+   *
+   * @param value the element to append
+   */
+  public void add(Object value) {
+    if (storage instanceof long[] && value instanceof Long) {
+      ((long[]) storage)[size++] = (long) value;
+    } else if (storage instanceof double[] && value instanceof Double) {
+      ((double[]) storage)[size++] = (double) value;
+    } else if (storage instanceof Object[]) {
+      ((Object[]) storage)[size++] = value;
+    } else {
+      addSlow(value);
+    }
+  }
+
+  @CompilerDirectives.TruffleBoundary
+  private void addSlow(Object value) {
+    if (storage == null) {
+      if (value instanceof Long) {
+        storage = new long[capacity];
+      } else if (value instanceof Double) {
+        storage = new double[capacity];
+      } else {
+        storage = new Object[capacity];
+      }
+    } else {
+      Object[] generic = new Object[capacity];
+      Vector previous = new Vector(storage, 0, size);
+      for (int i = 0; i < size; i++) {
+        generic[i] = previous.readAt(storage, i);
+      }
+      storage = generic;
+    }
+    add(value);
+  }
+
+  /**
+   * Finishes building the vector.
+   *
+   * @return a vector of all the elements added to this builder
+   */
+  public Vector build() {
+    return new Vector(storage == null ? new long[0] : storage, 0, size);
+  }
+}
@@ -0,0 +1,33 @@
+package org.enso.interpreter.runtime.error;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.TruffleException;
+import com.oracle.truffle.api.nodes.Node;
+
+/** An error thrown when a collection is accessed at an index outside of its bounds. */
+public class InvalidIndexException extends RuntimeException implements TruffleException {
+  private final Node node;
+
+  /**
+   * Creates a new error.
+   *
+   * @param index the index that was accessed
+   * @param length the length of the accessed collection
+   * @param node the node where the access occurred
+   */
+  @CompilerDirectives.TruffleBoundary
+  public InvalidIndexException(Object index, int length, Node node) {
+    super("Index " + index + " is out of bounds for length " + length + ".");
+    this.node = node;
+  }
+
+  /**
+   * Gets the location where the error occurred.
+   *
+   * @return the node where the error occurred
+   */
+  @Override
+  public Node getLocation() {
+    return node;
+  }
+}
@@ -0,0 +1,89 @@
+package org.enso.interpreter.runtime.number;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.interop.TruffleObject;
+
+import java.math.BigInteger;
+
+/**
+ * A runtime representation of integers too large to be represented as a {@code long}.
+ *
+ * <p>Integers are kept as {@code long} values whenever they fit, so instances of this class are
+ * only ever created for values outside of the {@code long} range. See Note [Overflowing
+ * Arithmetic].
+ */
+public class EnsoBigInteger implements TruffleObject {
+  private final BigInteger value;
+
+  /**
+   * Wraps a {@link BigInteger} as an Enso value.
+   *
+   * @param value the value to wrap
+   */
+  public EnsoBigInteger(BigInteger value) {
+    this.value = value;
+  }
+
+  /**
+   * Gets the wrapped {@link BigInteger}.
+   *
+   * @return the value of this integer
+   */
+  public BigInteger getValue() {
+    return value;
+  }
+
+  /**
+   * Converts this integer to the nearest decimal.
+   *
+   * @return the value of this integer as a {@code double}
+   */
+  @CompilerDirectives.TruffleBoundary
+  public double doubleValue() {
+    return value.doubleValue();
+  }
+
+  /**
+   * Converts the result of an integer operation to its runtime representation.
+   *
+   * @param value the result of the operation
+   * @return {@code value} as a {@code long} if it fits, or wrapped as an {@link EnsoBigInteger}
+   *     otherwise
+   */
+  @CompilerDirectives.TruffleBoundary
+  public static Object normalize(BigInteger value) {
+    if (value.bitLength() < Long.SIZE) {
+      return value.longValue();
+    }
+    return new EnsoBigInteger(value);
+  }
+
+  /**
+   * Represents this integer as a string.
+   *
+   * @return a string representation of this integer
+   */
+  @Override
+  @CompilerDirectives.TruffleBoundary
+  public String toString() {
+    return value.toString();
+  }
+
+  /* Note [Overflowing Arithmetic]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * Integer operations are specialized on `long` operands, and use the `Math.*Exact` family of
+   * methods to detect overflow. The fast path stays unboxed: an overflow check compiles down to
+   * the processor's overflow flag and a deoptimizing branch. When an operation does overflow, its
+   * `long` specialization is rewritten to one operating on `EnsoBigInteger`s, with `long` operands
+   * implicitly converted by the type system.
+   *
+   * The results of big integer operations are normalized back to `long`s whenever they fit, so that
+   * an integer always has exactly one representation. This means that a value that merely passed
+   * through the big range does not disable the unboxed paths of the code it flows into, and that
+   * code checking for `long` values (e.g. `ifZero`) never has to look at big integers that are
+   * actually small.
+   *
+   * Like `long`s, big integers mixed with decimals in arithmetic are converted to the nearest
+   * `double` by dedicated specializations, and the operation is performed on decimals.
+   */
+}
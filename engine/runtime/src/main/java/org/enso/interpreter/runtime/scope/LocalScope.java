@@ -6,19 +6,31 @@ import com.oracle.truffle.api.frame.FrameSlotKind;
 import org.enso.interpreter.runtime.error.VariableRedefinitionException;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * A representation of an Enso local scope. These can be arbitrarily nested and are used to map
  * between the interpreter's concept of stack frames and the guest language's concept of stack
  * frames.
+ *
+ * <p>A scope can also be a closure environment, holding copies of the variables a function
+ * captures from its enclosing scopes. See Note [Closure Environments].
  */
 public class LocalScope {
   private final FrameDescriptor frameDescriptor;
   private final LocalScope parent;
   private final Map<String, FrameSlot> items;
   private final FrameSlot stateFrameSlot;
+  private final Set<String> pendingItems = new HashSet<>();
+  private final boolean isEnvironment;
+  private final String selfName;
+  private final Map<String, FramePointer> captures = new LinkedHashMap<>();
+  private boolean isSealed = false;
+  private boolean isReferenced = false;
 
   /** Creates a root local scope. */
   public LocalScope() {
@@ -31,9 +43,15 @@ public class LocalScope {
    * @param parent the parent scope
    */
   public LocalScope(LocalScope parent) {
+    this(parent, false, null);
+  }
+
+  private LocalScope(LocalScope parent, boolean isEnvironment, String selfName) {
     this.items = new HashMap<>();
     this.frameDescriptor = new FrameDescriptor();
     this.parent = parent;
+    this.isEnvironment = isEnvironment;
+    this.selfName = selfName;
     this.stateFrameSlot =
         frameDescriptor.findOrAddFrameSlot("<<monadic_state>>", FrameSlotKind.Object);
   }
@@ -68,6 +86,93 @@ public class LocalScope {
     return new LocalScope(this);
   }
 
+  /**
+   * Creates a closure environment that is the Enso-semantics child of this.
+   *
+   * <p>The scope of the function being defined should be created as a child of the returned
+   * environment.
+   *
+   * @param selfName the name of the variable the function is directly assigned to, or {@code null}
+   *     if there is no such variable
+   * @return a new closure environment with {@code this} as its parent
+   */
+  public LocalScope createEnvironment(String selfName) {
+    return new LocalScope(this, true, selfName);
+  }
+
+  /**
+   * Checks whether this scope is a closure environment.
+   *
+   * @return {@code true} if this scope is a closure environment, {@code false} otherwise
+   */
+  public boolean isEnvironment() {
+    return isEnvironment;
+  }
+
+  /**
+   * Checks whether this scope corresponds to a frame at runtime.
+   *
+   * <p>Closure environments that neither captured any variables, nor were looked through for a
+   * variable, are elided.
+   *
+   * @return {@code true} if this scope has a runtime frame, {@code false} otherwise
+   */
+  public boolean hasFrame() {
+    return !isEnvironment || isReferenced || !captures.isEmpty();
+  }
+
+  /**
+   * Checks whether the function owning this closure environment uses no variables of its
+   * enclosing scopes, other than the variable it is assigned to.
+   *
+   * @return {@code true} if the function is closed, {@code false} otherwise
+   */
+  public boolean isClosed() {
+    return isEnvironment
+        && !isReferenced
+        && captures.keySet().stream().allMatch(name -> name.equals(selfName));
+  }
+
+  /**
+   * Checks whether any variables of the enclosing scopes are read through this closure environment,
+   * rather than being captured into it.
+   *
+   * @return {@code true} if the environment frame must link to the enclosing frame, {@code false}
+   *     otherwise
+   */
+  public boolean isLookedThrough() {
+    return isReferenced;
+  }
+
+  /**
+   * Gets the name of the variable the function owning this closure environment is assigned to.
+   *
+   * @return the name of the variable, or {@code null} if there is none
+   */
+  public String getSelfName() {
+    return selfName;
+  }
+
+  /**
+   * Gets the variables captured by this closure environment.
+   *
+   * @return a map from the names of the captured variables to their locations, relative to the
+   *     parent of this scope
+   */
+  public Map<String, FramePointer> getCaptures() {
+    return captures;
+  }
+
+  /**
+   * Stops this closure environment from capturing any further variables.
+   *
+   * <p>This must be called once the body of the function owning this environment is processed,
+   * as the environments of already existing closures can't be extended.
+   */
+  public void seal() {
+    isSealed = true;
+  }
+
   /**
    * Creates a new variable in the Enso frame.
    *
@@ -82,6 +187,35 @@ public class LocalScope {
     return slot;
   }
 
+  /**
+   * Creates a new slot in the Enso frame, which is not bound to any variable.
+   *
+   * @return a handle to the created slot
+   */
+  public FrameSlot createTemporarySlot() {
+    return frameDescriptor.addFrameSlot(new Object(), FrameSlotKind.Object);
+  }
+
+  /**
+   * Marks a variable as defined, but not yet holding a value.
+   *
+   * <p>This is the case while the expression assigned to the variable is being processed.
+   *
+   * @param name the name of the variable
+   */
+  public void markPending(String name) {
+    pendingItems.add(name);
+  }
+
+  /**
+   * Marks a variable as holding a value.
+   *
+   * @param name the name of the variable
+   */
+  public void markInitialized(String name) {
+    pendingItems.remove(name);
+  }
+
   /**
    * Reads a variable from the Enso frame.
    *
@@ -93,15 +227,46 @@ public class LocalScope {
     int parentCounter = 0;
     while (scope != null) {
       FrameSlot slot = scope.items.get(name);
+      if (slot == null && scope.isEnvironment && !scope.isSealed) {
+        slot = scope.capture(name);
+      }
       if (slot != null) {
         return Optional.of(new FramePointer(parentCounter, slot));
       }
+      if (scope.hasFrame()) {
+        parentCounter++;
+      }
       scope = scope.parent;
-      parentCounter++;
     }
     return Optional.empty();
   }
 
+  private FrameSlot capture(String name) {
+    Optional<FramePointer> target = parent.getSlot(name);
+    if (!target.isPresent()) {
+      return null;
+    }
+    if (!name.equals(selfName) && parent.isPending(name)) {
+      isReferenced = true;
+      return null;
+    }
+    FrameSlot slot = frameDescriptor.addFrameSlot(name);
+    items.put(name, slot);
+    captures.put(name, target.get());
+    return slot;
+  }
+
+  private boolean isPending(String name) {
+    LocalScope scope = this;
+    while (scope != null) {
+      if (scope.items.containsKey(name)) {
+        return scope.pendingItems.contains(name);
+      }
+      scope = scope.parent;
+    }
+    return false;
+  }
+
   /**
    * Gets the monadic state frame slot for this local scope.
    *
@@ -112,8 +277,9 @@ public class LocalScope {
   }
 
   private Map<String, FramePointer> flattenWithLevel(int level) {
+    int parentLevel = hasFrame() ? level + 1 : level;
     Map<String, FramePointer> parentResult =
-        parent == null ? new HashMap<>() : getParent().flattenWithLevel(level + 1);
+        parent == null ? new HashMap<>() : getParent().flattenWithLevel(parentLevel);
     for (Map.Entry<String, FrameSlot> entry : items.entrySet()) {
       parentResult.put(entry.getKey(), new FramePointer(level, entry.getValue()));
     }
@@ -128,4 +294,30 @@ public class LocalScope {
   public Map<String, FramePointer> flatten() {
     return flattenWithLevel(0);
   }
+
+  /* Note [Closure Environments]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * A function defined inside another function reads variables of the enclosing functions by
+   * walking up the chain of their materialized frames, one hop per level of nesting. To make these
+   * reads constant-time, each local function gets a closure environment: a scope sitting between
+   * the function and its enclosing scope. While the function body is processed, every variable
+   * looked up through the environment is captured into it, and at runtime its value is copied into
+   * a flat environment frame when the function is created. As nested functions look their captured
+   * variables up through the environments of the functions enclosing them, these get captured
+   * transitively, and are always one hop away.
+   *
+   * Copying is only valid for variables that already hold a value when the function is created.
+   * The only variables defined, but not yet holding a value, are the ones whose assigned
+   * expressions are being processed. A function directly assigned to such a variable refers to
+   * itself, so its environment slot is filled with the function right after its creation. Any
+   * other such variable is not captured, and is read through the enclosing frames instead, which
+   * the environment frame then keeps a link to. The link is also kept for functions that may give
+   * their frame to `Debug.eval` or the REPL, so that they can see variables that were not
+   * captured, which is why environments stop capturing once sealed. Otherwise the environment
+   * holds everything the function reads, so the enclosing frame is neither linked, nor
+   * materialized, and may be collected once its function returns.
+   *
+   * Case branches are created on every match and only live while it runs, so they don't get an
+   * environment and read their variables through the frames of the enclosing scopes directly.
+   */
 }
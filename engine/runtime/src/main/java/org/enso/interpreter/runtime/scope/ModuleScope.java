@@ -1,20 +1,35 @@
 package org.enso.interpreter.runtime.scope;
 
+import com.oracle.truffle.api.Assumption;
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.utilities.CyclicAssumption;
 import org.enso.interpreter.runtime.callable.atom.AtomConstructor;
 import org.enso.interpreter.runtime.callable.function.Function;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
-/** A representation of Enso's per-file top-level scope. */
+/**
+ * A representation of Enso's per-file top-level scope.
+ *
+ * <p>Scopes may be accessed from multiple threads at once, see Note [Concurrent Scopes].
+ */
 public class ModuleScope {
 
-  private final Map<String, AtomConstructor> constructors = new HashMap<>();
-  private final Map<AtomConstructor, Map<String, Function>> methods = new HashMap<>();
-  private final Map<String, Function> anyMethods = new HashMap<>();
-  private final Map<String, Function> numberMethods = new HashMap<>();
-  private final Set<ModuleScope> imports = new HashSet<>();
-  private final Set<ModuleScope> transitiveImports = new HashSet<>();
+  private final Map<String, AtomConstructor> constructors = new ConcurrentHashMap<>();
+  private final Map<String, AtomConstructor> previousConstructors = new ConcurrentHashMap<>();
+  private final Map<AtomConstructor, Map<String, Function>> methods = new ConcurrentHashMap<>();
+  private final Map<String, Function> anyMethods = new ConcurrentHashMap<>();
+  private final Map<String, Function> numberMethods = new ConcurrentHashMap<>();
+  private final Set<ModuleScope> imports = new CopyOnWriteArraySet<>();
+  private final Set<ModuleScope> transitiveImports = new CopyOnWriteArraySet<>();
+  private final Set<ModuleScope> dependents = ConcurrentHashMap.newKeySet();
+  private final Map<AtomConstructor, Map<String, Function>> methodTables =
+      new ConcurrentHashMap<>();
+  private volatile Map<String, Function> anyMethodTable = null;
+  private volatile Map<String, Function> numberMethodTable = null;
+  private final Map<String, CyclicAssumption> methodAssumptions = new ConcurrentHashMap<>();
 
   /**
    * Adds an Atom constructor definition to the module scope.
@@ -25,6 +40,37 @@ public class ModuleScope {
     constructors.put(constructor.getName(), constructor);
   }
 
+  /**
+   * Creates a constructor for a type defined in this module scope.
+   *
+   * <p>If a constructor of the same name was defined before the scope was last reset, it is reused,
+   * so that code referring to it directly observes the new definition. See Note [Method
+   * Redefinition].
+   *
+   * @param name the name of the type
+   * @return a constructor for the type called {@code name}, not yet registered in this scope
+   */
+  public AtomConstructor createConstructor(String name) {
+    AtomConstructor previous = previousConstructors.remove(name);
+    return previous != null ? previous : new AtomConstructor(name, this);
+  }
+
+  /**
+   * Removes all the definitions and imports of this module scope, so that its module can be
+   * processed into it again. See Note [Method Redefinition].
+   */
+  public void reset() {
+    previousConstructors.clear();
+    previousConstructors.putAll(constructors);
+    constructors.clear();
+    methods.clear();
+    anyMethods.clear();
+    numberMethods.clear();
+    imports.clear();
+    transitiveImports.clear();
+    invalidateAllMethods();
+  }
+
   /**
    * Looks up a constructor in the module scope.
    *
@@ -47,7 +93,7 @@ public class ModuleScope {
    * @return a map containing all the defined methods by name
    */
   private Map<String, Function> getMethodMapFor(AtomConstructor cons) {
-    return methods.computeIfAbsent(cons, k -> new HashMap<>());
+    return methods.computeIfAbsent(cons, k -> new ConcurrentHashMap<>());
   }
 
   /**
@@ -59,6 +105,7 @@ public class ModuleScope {
    */
   public void registerMethod(AtomConstructor atom, String method, Function function) {
     getMethodMapFor(atom).put(method, function);
+    invalidateMethod(method);
   }
 
   /**
@@ -69,6 +116,7 @@ public class ModuleScope {
    */
   public void registerMethodForAny(String methodName, Function function) {
     anyMethods.put(methodName, function);
+    invalidateMethod(methodName);
   }
 
   /**
@@ -79,6 +127,7 @@ public class ModuleScope {
    */
   public void registerMethodForNumber(String methodName, Function function) {
     numberMethods.put(methodName, function);
+    invalidateMethod(methodName);
   }
 
   /**
@@ -86,19 +135,21 @@ public class ModuleScope {
    *
    * <p>The resolution algorithm is first looking for methods defined at the constructor definition
    * site (i.e. non-overloads), then looks for methods defined in this scope and finally tries to
-   * resolve the method in all transitive dependencies of this module.
+   * resolve the method in all transitive dependencies of this module, in the order they were
+   * imported.
    *
    * <p>If the specific search fails, methods defined for any type are searched, first looking at
    * locally defined methods and then all the transitive imports.
    *
+   * <p>The lookup is performed in a flattened method table, see Note [Flattened Method Tables].
+   *
    * @param atom type to lookup the method for.
    * @param name the method name.
    * @return the matching method definition or null if not found.
    */
   @CompilerDirectives.TruffleBoundary
   public Function lookupMethodDefinitionForAtom(AtomConstructor atom, String name) {
-    return lookupSpecificMethodDefinitionForAtom(atom, name)
-        .orElseGet(() -> lookupMethodDefinitionForAny(name).orElse(null));
+    return getMethodTableFor(atom).get(name);
   }
 
   /**
@@ -113,27 +164,7 @@ public class ModuleScope {
    */
   @CompilerDirectives.TruffleBoundary
   public Optional<Function> lookupMethodDefinitionForAny(String name) {
-    return searchAuxiliaryMethodsMap(ModuleScope::getMethodsOfAny, name);
-  }
-
-  private Optional<Function> lookupSpecificMethodDefinitionForAtom(
-      AtomConstructor atom, String name) {
-    Function definedWithAtom = atom.getDefinitionScope().getMethodMapFor(atom).get(name);
-    if (definedWithAtom != null) {
-      return Optional.of(definedWithAtom);
-    }
-    Function definedHere = getMethodMapFor(atom).get(name);
-    if (definedHere != null) {
-      return Optional.of(definedHere);
-    }
-    return transitiveImports.stream()
-        .map(scope -> scope.getMethodMapFor(atom).get(name))
-        .filter(Objects::nonNull)
-        .findFirst();
-  }
-
-  private Optional<Function> lookupSpecificMethodDefinitionForNumber(String name) {
-    return searchAuxiliaryMethodsMap(ModuleScope::getMethodsOfNumber, name);
+    return Optional.ofNullable(getAnyMethodTable().get(name));
   }
 
   /**
@@ -142,7 +173,7 @@ public class ModuleScope {
    * <p>The resolution algorithm prefers methods defined locally over any other method. The
    * definitions are imported into scope transitively.
    *
-   * <p>If the specific search fails, methods defined for any type are searched, first looking at *
+   * <p>If the specific search fails, methods defined for any type are searched, first looking at
    * locally defined methods and then all the transitive imports.
    *
    * @param name the name of the method to look up
@@ -151,24 +182,200 @@ public class ModuleScope {
    */
   @CompilerDirectives.TruffleBoundary
   public Optional<Function> lookupMethodDefinitionForNumber(String name) {
-    return Optional.ofNullable(
-        lookupSpecificMethodDefinitionForNumber(name)
-            .orElseGet(() -> lookupMethodDefinitionForAny(name).orElse(null)));
+    return Optional.ofNullable(getNumberMethodTable().get(name));
   }
 
-  private Optional<Function> searchAuxiliaryMethodsMap(
-      java.util.function.Function<ModuleScope, Map<String, Function>> mapGetter,
-      String methodName) {
-    Function definedHere = mapGetter.apply(this).get(methodName);
-    if (definedHere != null) {
-      return Optional.of(definedHere);
+  /**
+   * Returns the flattened method table for a given constructor, building it if necessary.
+   *
+   * @param atom the constructor to get the method table for
+   * @return a map of all the methods visible in this scope for {@code atom}, by name
+   */
+  private Map<String, Function> getMethodTableFor(AtomConstructor atom) {
+    Map<String, Function> table = methodTables.get(atom);
+    return table == null ? buildMethodTableFor(atom) : table;
+  }
+
+  private synchronized Map<String, Function> buildMethodTableFor(AtomConstructor atom) {
+    Map<String, Function> table = methodTables.get(atom);
+    if (table == null) {
+      table = new HashMap<>();
+      ModuleScope definitionScope = atom.getDefinitionScope();
+      if (definitionScope != null) {
+        definitionScope.dependents.add(this);
+        putAllAbsent(table, definitionScope.methods.get(atom));
+      }
+      putAllAbsent(table, methods.get(atom));
+      for (ModuleScope scope : transitiveImports) {
+        putAllAbsent(table, scope.methods.get(atom));
+      }
+      putAllAbsent(table, getAnyMethodTable());
+      methodTables.put(atom, table);
     }
-    return transitiveImports.stream()
-        .map(scope -> mapGetter.apply(scope).get(methodName))
-        .filter(Objects::nonNull)
-        .findFirst();
+    return table;
+  }
+
+  /**
+   * Returns the flattened method table for the type Any, building it if necessary.
+   *
+   * <p>The same table is used for resolving methods on functions and errors.
+   *
+   * @return a map of all the methods visible in this scope for the type Any, by name
+   */
+  private Map<String, Function> getAnyMethodTable() {
+    Map<String, Function> table = anyMethodTable;
+    return table == null ? buildAnyMethodTable() : table;
+  }
+
+  private synchronized Map<String, Function> buildAnyMethodTable() {
+    if (anyMethodTable == null) {
+      anyMethodTable = flattenAuxiliaryMethodsMaps(ModuleScope::getMethodsOfAny);
+    }
+    return anyMethodTable;
+  }
+
+  /**
+   * Returns the flattened method table for the type Number, building it if necessary.
+   *
+   * @return a map of all the methods visible in this scope for the type Number, by name
+   */
+  private Map<String, Function> getNumberMethodTable() {
+    Map<String, Function> table = numberMethodTable;
+    return table == null ? buildNumberMethodTable() : table;
   }
 
+  private synchronized Map<String, Function> buildNumberMethodTable() {
+    if (numberMethodTable == null) {
+      Map<String, Function> table = flattenAuxiliaryMethodsMaps(ModuleScope::getMethodsOfNumber);
+      putAllAbsent(table, getAnyMethodTable());
+      numberMethodTable = table;
+    }
+    return numberMethodTable;
+  }
+
+  private Map<String, Function> flattenAuxiliaryMethodsMaps(
+      java.util.function.Function<ModuleScope, Map<String, Function>> mapGetter) {
+    Map<String, Function> table = new HashMap<>(mapGetter.apply(this));
+    for (ModuleScope scope : transitiveImports) {
+      putAllAbsent(table, mapGetter.apply(scope));
+    }
+    return table;
+  }
+
+  private static void putAllAbsent(Map<String, Function> target, Map<String, Function> source) {
+    if (source == null) {
+      return;
+    }
+    for (Map.Entry<String, Function> entry : source.entrySet()) {
+      target.putIfAbsent(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * Returns an assumption that the resolution of a given method name in this scope has not changed
+   * since the assumption was obtained.
+   *
+   * <p>The assumption is invalidated when a method of this name is defined in this scope or any
+   * scope visible from it, as well as when an import is added to any of these scopes. See Note
+   * [Method Redefinition].
+   *
+   * @param name the name of the method
+   * @return an assumption that methods called {@code name} have not been redefined
+   */
+  @CompilerDirectives.TruffleBoundary
+  public Assumption getMethodAssumption(String name) {
+    return methodAssumptions
+        .computeIfAbsent(name, n -> new CyclicAssumption("method " + n + " unchanged"))
+        .getAssumption();
+  }
+
+  /**
+   * Drops the flattened method tables and invalidates the assumptions for a given method name, in
+   * this scope and in all the scopes whose resolution may depend on this scope.
+   *
+   * @param name the name of the (re)defined method
+   */
+  private void invalidateMethod(String name) {
+    dropMethodTables();
+    invalidateMethodAssumption(name);
+    for (ModuleScope dependent : dependents) {
+      dependent.dropMethodTables();
+      dependent.invalidateMethodAssumption(name);
+    }
+  }
+
+  /**
+   * Drops the flattened method tables and invalidates the assumptions for all method names, in
+   * this scope and in all the scopes whose resolution may depend on this scope.
+   */
+  private void invalidateAllMethods() {
+    dropMethodTables();
+    methodAssumptions.values().forEach(CyclicAssumption::invalidate);
+    for (ModuleScope dependent : dependents) {
+      dependent.dropMethodTables();
+      dependent.methodAssumptions.values().forEach(CyclicAssumption::invalidate);
+    }
+  }
+
+  private synchronized void dropMethodTables() {
+    methodTables.clear();
+    anyMethodTable = null;
+    numberMethodTable = null;
+  }
+
+  private void invalidateMethodAssumption(String name) {
+    CyclicAssumption assumption = methodAssumptions.get(name);
+    if (assumption != null) {
+      assumption.invalidate();
+    }
+  }
+
+  /* Note [Method Redefinition]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * Interactive sessions re-process modules after they are edited, registering the new definitions
+   * into the existing scopes. The scope is reset first, so that definitions and imports removed
+   * from the module are no longer visible. Constructors are referred to directly by the nodes of
+   * the modules using them, so a redefined type reuses the constructor it had before, and only its
+   * fields and methods change. Method call sites cache the resolved functions, so each cached entry
+   * is guarded by the assumption for its method name in the scope of the call site. Redefining a
+   * method only invalidates the assumptions for that name, in the defining scope and in all the
+   * scopes that import it, so only the call sites that could resolve to the redefined method are
+   * deoptimized and respecialized. Adding an import may change the resolution of any name, so it
+   * invalidates all the assumptions of the affected scopes.
+   */
+
+  /* Note [Concurrent Scopes]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~
+   * Enso code may run on several threads at once (see `Parallel` in `Builtins`), and any of them
+   * may resolve methods, and thus build method tables, while another one is processing a module
+   * into the same scopes. The definitions and imports are therefore kept in concurrent
+   * collections, and the flattened method tables are immutable once published: a table is built
+   * in full before it is stored, and is only ever replaced by dropping it.
+   *
+   * Lookups read the published tables without locking. Building a table and dropping the tables
+   * both happen under the lock of the scope owning them, so a table that was being built from
+   * stale definitions when another thread redefined a method is dropped as soon as it is stored.
+   * A scope never takes the lock of another scope while holding its own, so scopes importing each
+   * other cannot deadlock.
+   */
+
+  /* Note [Flattened Method Tables]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * Resolving a method used to walk the definition scope, this scope and every transitive import
+   * on each lookup, so the cost of a cache miss in `MethodResolverNode` grew with the import graph.
+   * Instead, each scope keeps a table per constructor (and one for each of Any and Number) that
+   * already contains every method visible from this scope, with the precedence of the resolution
+   * algorithm baked in. A lookup is then a single hash map access. Call sites whose inline caches
+   * overflow look methods up in these tables directly, so they also serve as the cache shared by
+   * all the call sites of the scope.
+   *
+   * The tables are built on first lookup, which happens once the module has been processed, and
+   * are dropped whenever a method or import is added to this scope or to any scope they were
+   * built from (tracked in `dependents`), see Note [Method Redefinition]. Imports are kept in
+   * insertion order, so that the precedence between methods of the same name in different imports
+   * is deterministic.
+   */
+
   /**
    * Returns all the transitive dependencies of this module.
    *
@@ -195,5 +402,8 @@ public class ModuleScope {
     imports.add(scope);
     transitiveImports.add(scope);
     transitiveImports.addAll(scope.getTransitiveImports());
+    scope.dependents.add(this);
+    scope.getTransitiveImports().forEach(imported -> imported.dependents.add(this));
+    invalidateAllMethods();
   }
 }
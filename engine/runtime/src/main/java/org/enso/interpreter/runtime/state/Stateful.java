@@ -33,4 +33,41 @@ public class Stateful {
   public Object getValue() {
     return value;
   }
+
+  /**
+   * Converts this value into the result to be returned from a call made with a given state.
+   *
+   * @param initialState the state the call was made with
+   * @return the bare value if the state was not modified, {@code this} otherwise
+   */
+  public Object toCallResult(Object initialState) {
+    return state == initialState ? getValue() : this;
+  }
+
+  /**
+   * Interprets the value returned from a call made with a given state.
+   *
+   * @param initialState the state the call was made with
+   * @param result the value returned from the call
+   * @return the result of the call, together with the state after it
+   */
+  public static Stateful fromCallResult(Object initialState, Object result) {
+    if (result instanceof Stateful) {
+      return (Stateful) result;
+    }
+    return new Stateful(initialState, result);
+  }
+
+  /* Note [Stateful Call Results]
+   * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   * The monadic state is passed to every call as one of its arguments. Returning it together with
+   * the result would require a `Stateful` allocation per call, even though most code never touches
+   * the state at all.
+   *
+   * Instead, root nodes return the bare result whenever the state at the end of the call is the
+   * same one they were called with, and only return a `Stateful` when it has been modified (e.g.
+   * by `State.put`). The nodes making calls turn the result back into a `Stateful` using
+   * `fromCallResult`. That allocation happens in the caller's own compilation unit and is consumed
+   * right away, so it gets virtualized by the compiler.
+   */
 }
@@ -7,7 +7,13 @@ import org.enso.interpreter.runtime.callable.argument.Thunk;
 import org.enso.interpreter.runtime.callable.atom.Atom;
 import org.enso.interpreter.runtime.callable.atom.AtomConstructor;
 import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.data.EnsoMap;
+import org.enso.interpreter.runtime.data.Text;
+import org.enso.interpreter.runtime.data.Vector;
 import org.enso.interpreter.runtime.error.RuntimeError;
+import org.enso.interpreter.runtime.number.EnsoBigInteger;
+
+import java.math.BigInteger;
 
 /**
  * This class defines the interpreter-level type system for Enso.
@@ -21,11 +27,16 @@ import org.enso.interpreter.runtime.error.RuntimeError;
  */
 @TypeSystem({
   long.class,
+  double.class,
+  EnsoBigInteger.class,
   Function.class,
   Atom.class,
   AtomConstructor.class,
   Thunk.class,
-  RuntimeError.class
+  RuntimeError.class,
+  Vector.class,
+  Text.class,
+  EnsoMap.class
 })
 public class Types {
 
@@ -40,4 +51,17 @@ public class Types {
   public static long castLong(int value) {
     return value;
   }
+
+  /**
+   * An implicit conversion between {@code long} and {@link EnsoBigInteger}, used by integer
+   * operations once they have overflowed.
+   *
+   * @param value the value to convert
+   * @return {@code value} as the appropriate type
+   */
+  @ImplicitCast
+  @CompilerDirectives.TruffleBoundary
+  public static EnsoBigInteger castBigInteger(long value) {
+    return new EnsoBigInteger(BigInteger.valueOf(value));
+  }
 }
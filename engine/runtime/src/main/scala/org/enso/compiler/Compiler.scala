@@ -12,16 +12,14 @@ import org.enso.interpreter.builder.ExpressionFactory
 import org.enso.interpreter.builder.ModuleScopeExpressionFactory
 import org.enso.interpreter.node.ExpressionNode
 import org.enso.interpreter.runtime.Context
-import org.enso.interpreter.runtime.Module
+import org.enso.interpreter.runtime.ImportLoader
+import org.enso.interpreter.runtime.ModuleIndex
 import org.enso.interpreter.runtime.callable.function.Function
 import org.enso.interpreter.runtime.error.ModuleDoesNotExistException
 import org.enso.interpreter.runtime.scope.LocalScope
 import org.enso.interpreter.runtime.scope.ModuleScope
 import org.enso.syntax.text.{AST, Debug, Parser}
 
-import scala.collection.JavaConverters._
-import scala.collection.mutable
-
 /**
   * This class encapsulates the static transformation processes that take place
   * on source code, including parsing, desugaring, type-checking, static
@@ -29,12 +27,10 @@ import scala.collection.mutable
   */
 class Compiler(
   val language: Language,
-  val files: java.util.Map[String, Module],
+  val modules: ModuleIndex,
   val context: Context
 ) {
 
-  val knownFiles: mutable.Map[String, Module] = files.asScala
-
   /**
     * Processes the provided language sources, registering any bindings in the
     * given scope.
@@ -45,16 +41,25 @@ class Compiler(
     *         executable functionality in the module corresponding to `source`.
     */
   def run(source: Source, scope: ModuleScope): Optional[Function] = {
-    val mimeType = source.getMimeType
-
-    val expr: AstModuleScope = if (mimeType == Constants.MIME_TYPE) {
-      val parsedAST: AST = parse(source)
-      translate(parsedAST)
-    } else {
-      new EnsoParser().parseEnso(source.getCharacters.toString)
-    }
+    val expr = parseModule(source)
+    ImportLoader.loadImports(context, expr)
+    run(expr, scope)
+  }
 
-    new ModuleScopeExpressionFactory(language, scope).run(expr)
+  /**
+    * Processes an already translated module, registering any bindings in the
+    * given scope.
+    *
+    * The modules imported by `module` are processed as they are encountered,
+    * on the calling thread.
+    *
+    * @param module the translated module
+    * @param scope the scope into which new bindings are registered
+    * @return an interpreter node whose execution corresponds to the top-level
+    *         executable functionality in `module`.
+    */
+  def run(module: AstModuleScope, scope: ModuleScope): Optional[Function] = {
+    new ModuleScopeExpressionFactory(language, scope).run(module)
   }
 
   /**
@@ -125,9 +130,43 @@ class Compiler(
     * @return the scope containing all definitions in the requested module
     */
   def requestProcess(qualifiedName: String): ModuleScope = {
-    knownFiles.get(qualifiedName) match {
-      case Some(module) => module.requestParse(language.getCurrentContext)
-      case None         => throw new ModuleDoesNotExistException(qualifiedName)
+    modules
+      .find(qualifiedName)
+      .orElseThrow(() => new ModuleDoesNotExistException(qualifiedName))
+      .requestParse(language.getCurrentContext)
+  }
+
+  /**
+    * Parses the provided module sources and translates them into the form
+    * processed by the interpreter.
+    *
+    * @param source the code of the module
+    * @return the translated module
+    */
+  def parseModule(source: Source): AstModuleScope = {
+    if (source.getMimeType == Constants.MIME_TYPE) {
+      translate(parse(source))
+    } else {
+      new EnsoParser().parseEnso(source.getCharacters.toString)
+    }
+  }
+
+  /**
+    * Parses the module sources in the provided file and translates them into
+    * the form processed by the interpreter, reusing the translated module
+    * stored in `cache` if the file has not changed since it was stored.
+    *
+    * @param file the file containing the source code
+    * @param cache the on-disk cache of the translated module, or `null` if the
+    *              module is not cached
+    * @return the translated module
+    */
+  def parseModule(file: TruffleFile, cache: ModuleCache): AstModuleScope = {
+    val source = Source.newBuilder(Constants.LANGUAGE_ID, file).build
+    Option(cache) match {
+      case Some(cache) =>
+        cache.getOrTranslate(source, (src: Source) => parseModule(src))
+      case None => parseModule(source)
     }
   }
 
@@ -0,0 +1,282 @@
+package org.enso.compiler
+
+import java.io.{
+  ByteArrayOutputStream,
+  DataOutputStream,
+  File,
+  IOException,
+  InputStream,
+  InvalidClassException,
+  ObjectInputStream,
+  ObjectOutputStream,
+  ObjectStreamClass
+}
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.charset.StandardCharsets
+import java.nio.file.{Files, StandardCopyOption, StandardOpenOption}
+import java.security.MessageDigest
+import java.util
+
+import com.oracle.truffle.api.source.Source
+import org.enso.interpreter.{AstModuleScope, Constants}
+
+import scala.util.Try
+
+/**
+  * A cache of the translated form of a single module, stored in a file on
+  * disk so that it survives between runs.
+  *
+  * The cached module is only used if it was produced by the same version of
+  * the compiler from a source with exactly the same contents. See Note
+  * [Module Cache Format].
+  *
+  * @param cacheFile the file in which the translated module is stored
+  */
+class ModuleCache(val cacheFile: File) {
+
+  /**
+    * Gets the cached translation of `source`, or translates it with
+    * `translate` and stores the result in the cache.
+    *
+    * Any problems with reading or writing the cache file cause the source to
+    * be translated as if the cache was empty.
+    *
+    * @param source the source of the module
+    * @param translate the function translating the source
+    * @return the translated module
+    */
+  def getOrTranslate(
+    source: Source,
+    translate: Source => AstModuleScope
+  ): AstModuleScope = {
+    val key = ModuleCache.key(source)
+    read(key).getOrElse {
+      val module = translate(source)
+      Try(write(key, module))
+      module
+    }
+  }
+
+  /**
+    * Reads the module stored in the cache file, if the file exists and was
+    * stored for the given key.
+    *
+    * @param key the key of the current module source
+    * @return the cached module, if the cache is valid for `key`
+    */
+  def read(key: Array[Byte]): Option[AstModuleScope] = {
+    if (!cacheFile.isFile) return None
+    Try {
+      val channel =
+        FileChannel.open(cacheFile.toPath, StandardOpenOption.READ)
+      val buffer =
+        try channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size)
+        finally channel.close()
+      if (readHeader(buffer, key)) {
+        val input = new ModuleInputStream(new ByteBufferInputStream(buffer))
+        Some(input.readObject().asInstanceOf[AstModuleScope])
+      } else {
+        None
+      }
+    }.toOption.flatten
+  }
+
+  /**
+    * Stores a module in the cache file, replacing any module stored there
+    * before.
+    *
+    * The module is written to a temporary file first, which is then moved in
+    * place of the cache file, so that other processes never read a partially
+    * written cache.
+    *
+    * @param key the key of the module source
+    * @param module the translated module
+    * @throws IOException when the cache file could not be written
+    */
+  @throws[IOException]
+  def write(key: Array[Byte], module: AstModuleScope): Unit = {
+    val bytes  = new ByteArrayOutputStream()
+    val header = new DataOutputStream(bytes)
+    header.writeInt(ModuleCache.magicNumber)
+    header.writeUTF(ModuleCache.compilerVersion)
+    header.writeInt(key.length)
+    header.write(key)
+    header.flush()
+    val output = new ObjectOutputStream(bytes)
+    output.writeObject(module)
+    output.close()
+
+    val directory = cacheFile.getAbsoluteFile.getParentFile
+    Files.createDirectories(directory.toPath)
+    val temporary = File.createTempFile(cacheFile.getName, ".tmp", directory)
+    try {
+      Files.write(temporary.toPath, bytes.toByteArray)
+      Files.move(
+        temporary.toPath,
+        cacheFile.toPath,
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE
+      )
+    } finally {
+      temporary.delete()
+    }
+  }
+
+  /**
+    * Checks that the header of the cache was written by this version of the
+    * compiler for the given key, leaving the buffer positioned at the start
+    * of the module.
+    *
+    * @param buffer the contents of the cache file
+    * @param key the key of the current module source
+    * @return `true` if the cache is valid for `key`, `false` otherwise
+    */
+  private def readHeader(buffer: ByteBuffer, key: Array[Byte]): Boolean = {
+    if (buffer.getInt != ModuleCache.magicNumber) return false
+    val versionBytes = new Array[Byte](buffer.getShort & 0xFFFF)
+    buffer.get(versionBytes)
+    val version = new String(versionBytes, StandardCharsets.UTF_8)
+    if (version != ModuleCache.compilerVersion) return false
+    val storedKey = new Array[Byte](buffer.getInt)
+    buffer.get(storedKey)
+    util.Arrays.equals(storedKey, key)
+  }
+
+  /**
+    * An object input stream that only deserializes the classes a translated
+    * module consists of. See Note [Module Cache Format].
+    *
+    * @param input the stream to read the serialized module from
+    */
+  private class ModuleInputStream(input: InputStream)
+      extends ObjectInputStream(input) {
+    override protected def resolveClass(desc: ObjectStreamClass): Class[_] = {
+      if (!ModuleCache.isAllowedClass(desc.getName)) {
+        throw new InvalidClassException(desc.getName, "Not a module class.")
+      }
+      super.resolveClass(desc)
+    }
+
+    override protected def resolveProxyClass(
+      interfaces: Array[String]
+    ): Class[_] =
+      throw new InvalidClassException("Proxy classes are not module classes.")
+  }
+
+  /**
+    * An input stream reading the remaining bytes of a buffer.
+    *
+    * @param buffer the buffer to read
+    */
+  private class ByteBufferInputStream(buffer: ByteBuffer) extends InputStream {
+    override def read(): Int =
+      if (buffer.hasRemaining) buffer.get & 0xFF else -1
+
+    override def read(bytes: Array[Byte], offset: Int, length: Int): Int = {
+      if (length == 0) return 0
+      if (!buffer.hasRemaining) return -1
+      val count = Math.min(length, buffer.remaining)
+      buffer.get(bytes, offset, count)
+      count
+    }
+
+    override def available(): Int = buffer.remaining
+  }
+}
+
+/* Note [Module Cache Format]
+ * ~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * A cache file starts with a header, followed by the translated module in the
+ * Java serialization format. The header consists of:
+ *
+ * - A magic number, identifying the file as a module cache.
+ * - The version of the compiler that wrote the file, as written by
+ *   `DataOutput.writeUTF`.
+ * - The length of the key, followed by the key itself. The key is the SHA-256
+ *   hash of the MIME type and the contents of the module source.
+ *
+ * The file is mapped into memory, so that checking the header only reads the
+ * few bytes it consists of. The module itself is only deserialized once the
+ * header is known to match, which is much cheaper than parsing and
+ * translating the source again.
+ *
+ * Cache files live in the directories of packages, which are not necessarily
+ * trusted. The module is therefore deserialized with an allow-list of the
+ * classes making up a translated module: the `Ast*` classes, the immutable
+ * Scala collections and options they use, source locations and boxed
+ * primitives. A file referring to any other class is treated as corrupted.
+ * Caching is also disabled unless the `enso.cacheModules` option is set.
+ *
+ * The compiler version has to be bumped whenever the translation or the
+ * classes of the translated module change in a way that makes old caches
+ * invalid. Caches that can't be deserialized anyway are treated as missing.
+ */
+
+/**
+  * A companion object for the [[ModuleCache]] class.
+  */
+object ModuleCache {
+  val cacheDirName  = ".enso-cache"
+  val fileExtension = ".ast"
+
+  private val magicNumber     = 0x454E5343
+  private val compilerVersion = Constants.LANGUAGE_VERSION + "/1"
+
+  private val allowedClassPrefixes = List(
+    "org.enso.interpreter.Ast",
+    "scala.collection.immutable."
+  )
+
+  private val allowedClasses = Set(
+    "org.enso.syntax.text.AST$Location",
+    "scala.Option",
+    "scala.Some",
+    "scala.None$",
+    "java.lang.Number",
+    "java.lang.Boolean",
+    "java.lang.Integer",
+    "java.lang.Long",
+    "java.lang.Double"
+  )
+
+  /**
+    * Checks whether a class may be deserialized from a cache file.
+    *
+    * @param name the binary name of the class
+    * @return `true` if the class is part of translated modules, `false`
+    *         otherwise
+    */
+  def isAllowedClass(name: String): Boolean =
+    allowedClasses.contains(name) ||
+    allowedClassPrefixes.exists(prefix => name.startsWith(prefix))
+
+  /**
+    * Computes the key identifying the contents of a module source.
+    *
+    * @param source the source of the module
+    * @return the key of `source`
+    */
+  def key(source: Source): Array[Byte] = {
+    val digest = MessageDigest.getInstance("SHA-256")
+    val mimeType = String.valueOf(source.getMimeType)
+    digest.update(mimeType.getBytes(StandardCharsets.UTF_8))
+    digest.update(0.toByte)
+    digest.update(
+      source.getCharacters.toString.getBytes(StandardCharsets.UTF_8)
+    )
+    digest.digest()
+  }
+
+  /**
+    * Creates the cache of a module in a package.
+    *
+    * @param packageRoot the root directory of the package
+    * @param qualifiedName the qualified name of the module
+    * @return the cache of the module
+    */
+  def forModule(packageRoot: File, qualifiedName: String): ModuleCache = {
+    val cacheDir = new File(packageRoot, cacheDirName)
+    new ModuleCache(new File(cacheDir, qualifiedName + fileExtension))
+  }
+}
@@ -0,0 +1,86 @@
+package org.enso.compiler.analyse
+
+import org.enso.interpreter.{
+  AstApply,
+  AstArgDefinition,
+  AstArithOp,
+  AstAssignment,
+  AstBlock,
+  AstCaseFunction,
+  AstDesuspend,
+  AstDouble,
+  AstExpression,
+  AstForeign,
+  AstFunction,
+  AstLong,
+  AstMatch,
+  AstNamedCallArg,
+  AstStringLiteral,
+  AstUnnamedCallArg,
+  AstVariable
+}
+
+import scala.collection.JavaConverters._
+
+/**
+  * Decides which local functions can be lifted, that is created once and
+  * shared between all executions of their definitions, instead of being
+  * recreated as a closure each time.
+  *
+  * Only functions that use no variables of their enclosing scopes, other than
+  * themselves, can be lifted. This is checked by the runtime once the body is
+  * processed, as it knows which variables end up captured. Lifted functions
+  * lose the link to the frames of their enclosing scopes, so they must also
+  * not give their frames to any code that could use it to look variables up
+  * dynamically, such as `Debug.eval`.
+  */
+object LambdaLifting {
+  private val callerFrameMethods = Set("eval", "breakpoint")
+
+  /**
+    * Checks whether a local function, that uses no variables of its enclosing
+    * scopes, can be lifted.
+    *
+    * As methods are resolved dynamically, any use of a symbol naming a method
+    * that accesses the caller's frame prevents the lifting.
+    *
+    * @param arguments the arguments of the function
+    * @param body the body of the function
+    * @return `true` if the function can be lifted, otherwise `false`
+    */
+  def canLift(
+    arguments: java.util.List[AstArgDefinition],
+    body: AstExpression
+  ): Boolean =
+    !arguments.asScala.exists(defaultUsesCallerFrame) &&
+    !usesCallerFrame(body)
+
+  private def defaultUsesCallerFrame(argument: AstArgDefinition): Boolean =
+    argument.defaultValue.exists(usesCallerFrame)
+
+  private def usesCallerFrame(expr: AstExpression): Boolean = expr match {
+    case AstVariable(_, name)          => callerFrameMethods.contains(name)
+    case AstArithOp(_, _, left, right) =>
+      usesCallerFrame(left) || usesCallerFrame(right)
+    case AstApply(_, fun, args, _) =>
+      usesCallerFrame(fun) || args.exists {
+        case AstNamedCallArg(_, value) => usesCallerFrame(value)
+        case AstUnnamedCallArg(value)  => usesCallerFrame(value)
+      }
+    case AstFunction(_, args, body) =>
+      args.exists(defaultUsesCallerFrame) || usesCallerFrame(body)
+    case AstCaseFunction(_, args, body) =>
+      args.exists(defaultUsesCallerFrame) || usesCallerFrame(body)
+    case AstAssignment(_, _, body) => usesCallerFrame(body)
+    case AstMatch(_, target, branches, fallback) =>
+      usesCallerFrame(target) || branches.exists(
+        branch =>
+          usesCallerFrame(branch.cons) || usesCallerFrame(branch.function)
+      ) || fallback.exists(usesCallerFrame)
+    case AstDesuspend(_, target) => usesCallerFrame(target)
+    case AstBlock(_, statements, retVal) =>
+      statements.exists(usesCallerFrame) || usesCallerFrame(retVal)
+    case _: AstLong | _: AstDouble | _: AstStringLiteral | _: AstForeign =>
+      false
+  }
+}
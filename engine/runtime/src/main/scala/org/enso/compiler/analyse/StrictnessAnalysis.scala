@@ -0,0 +1,65 @@
+package org.enso.compiler.analyse
+
+import org.enso.interpreter.{
+  AstArithOp,
+  AstDouble,
+  AstExpression,
+  AstFunction,
+  AstLong,
+  AstStringLiteral,
+  AstVariable
+}
+
+/**
+  * Decides which call arguments can be evaluated eagerly at the call site,
+  * instead of being passed to the callee as thunks.
+  *
+  * An argument is only evaluated eagerly if doing so is unobservable: its
+  * evaluation cannot fail, has no effects, does not touch the state and is
+  * cheap enough that evaluating it when the callee would not have done so does
+  * not cost more than creating the thunk in the first place. Callees that
+  * expect a suspended argument treat such a value as an already forced thunk.
+  *
+  * Arithmetic is only strict if its operands are statically known to be
+  * numbers, i.e. number literals or arithmetic over them, as arithmetic on
+  * any other value fails. Variables may hold values of any type, so arithmetic
+  * over them stays suspended. Division is only strict if the divisor is a
+  * non-zero literal, as integer division by zero fails as well.
+  */
+object StrictnessAnalysis {
+
+  /**
+    * Checks whether a call argument can be evaluated eagerly.
+    *
+    * @param argument the expression passed as an argument
+    * @return `true` if `argument` can be evaluated before the call, otherwise
+    *         `false`
+    */
+  def canEvaluateEagerly(argument: AstExpression): Boolean = argument match {
+    case _: AstLong          => true
+    case _: AstDouble        => true
+    case _: AstStringLiteral => true
+    case _: AstVariable      => true
+    case _: AstFunction      => true
+    case op: AstArithOp      => isNumeric(op)
+    case _                   => false
+  }
+
+  private def isNumeric(expr: AstExpression): Boolean = expr match {
+    case _: AstLong   => true
+    case _: AstDouble => true
+    case AstArithOp(_, op, left, right) =>
+      val isSafeDivisor = op match {
+        case "/" | "%" => isNonZeroLiteral(right)
+        case _         => true
+      }
+      isNumeric(left) && isNumeric(right) && isSafeDivisor
+    case _ => false
+  }
+
+  private def isNonZeroLiteral(expr: AstExpression): Boolean = expr match {
+    case AstLong(_, l) => l != 0
+    case _: AstDouble  => true
+    case _             => false
+  }
+}
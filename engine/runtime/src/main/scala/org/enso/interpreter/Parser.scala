@@ -12,6 +12,8 @@ import scala.util.parsing.combinator._
 trait AstExpressionVisitor[+T] {
   def visitLong(l: Long): T
 
+  def visitDouble(d: Double): T
+
   def visitArithOp(op: String, left: AstExpression, right: AstExpression): T
 
   def visitForeign(lang: String, code: String): T
@@ -80,6 +82,7 @@ case class AstModuleScope(
   bindings: List[AstModuleSymbol],
   expression: Option[AstExpression]
 ) {
+  def getImports: java.util.List[AstImport] = imports.asJava
 
   def visit[T](visitor: AstModuleScopeVisitor[T]): Optional[T] = {
     val types = new java.util.ArrayList[AstTypeDef]()
@@ -159,6 +162,12 @@ case class AstLong(location: Option[Location], l: Long) extends AstExpression {
     visitor.visitLong(l)
 }
 
+case class AstDouble(location: Option[Location], d: Double)
+    extends AstExpression {
+  override def visit[T](visitor: AstExpressionVisitor[T]): T =
+    visitor.visitDouble(d)
+}
+
 case class AstStringLiteral(location: Option[Location], string: String)
     extends AstExpression {
   override def visit[T](visitor: AstExpressionVisitor[T]): T =
@@ -280,6 +289,10 @@ class EnsoParserInternal extends JavaTokenParsers {
     AstLong(None, numStr.toLong)
   }
 
+  def double: Parser[AstDouble] = """-?\d+\.\d+""".r ^^ { numStr =>
+    AstDouble(None, numStr.toDouble)
+  }
+
   def foreign: Parser[AstForeign] =
     ("js" | "rb" | "py") ~ foreignLiteral ^^ {
       case lang ~ code => AstForeign(None, lang, code)
@@ -318,7 +331,7 @@ class EnsoParserInternal extends JavaTokenParsers {
   def variable: Parser[AstVariable] = ident ^^ (AstVariable(None, _))
 
   def operand: Parser[AstExpression] =
-    long | foreign | variable | "(" ~> expression <~ ")" | functionCall
+    double | long | foreign | variable | "(" ~> expression <~ ")" | functionCall
 
   def arith: Parser[AstExpression] =
     operand ~ ((("+" | "-" | "*" | "/" | "%") ~ operand) ?) ^^ {
@@ -0,0 +1,87 @@
+package org.enso.compiler
+
+import java.io.{ByteArrayOutputStream, File, ObjectOutputStream}
+import java.nio.file.Files
+
+import com.oracle.truffle.api.source.Source
+import org.enso.interpreter.{AstModuleScope, Constants, EnsoParser}
+import org.scalatest.{BeforeAndAfterEach, FlatSpec, Matchers}
+
+import scala.collection.JavaConverters._
+
+class ModuleCacheTest extends FlatSpec with Matchers with BeforeAndAfterEach {
+  var cacheDir: File    = _
+  var translations: Int = 0
+
+  override def beforeEach(): Unit = {
+    cacheDir     = Files.createTempDirectory("enso-cache").toFile
+    translations = 0
+  }
+
+  override def afterEach(): Unit = {
+    val paths = Files.walk(cacheDir.toPath).iterator.asScala.toList
+    paths.reverse.foreach(Files.delete)
+  }
+
+  def source(code: String): Source =
+    Source
+      .newBuilder(Constants.LANGUAGE_ID, code, "Test")
+      .mimeType(Constants.Debug.MIME_TYPE)
+      .build()
+
+  def translate(source: Source): AstModuleScope = {
+    translations += 1
+    new EnsoParser().parseEnso(source.getCharacters.toString)
+  }
+
+  def cache: ModuleCache = ModuleCache.forModule(cacheDir, "Test.Main")
+
+  "Module cache" should "reuse the translation of an unchanged module" in {
+    val code     = "Any.foo = { |x| x + 1 }\n@foo [1]"
+    val original = cache.getOrTranslate(source(code), translate)
+    val cached   = cache.getOrTranslate(source(code), translate)
+
+    translations shouldEqual 1
+    cached shouldEqual original
+  }
+
+  "Module cache" should "translate a module again when it changes" in {
+    val code    = "Any.foo = { 1 }\n@foo [1]"
+    val newCode = "Any.foo = { 2 }\n@foo [1]"
+    cache.getOrTranslate(source(code), translate)
+    val changed = cache.getOrTranslate(source(newCode), translate)
+
+    translations shouldEqual 2
+    changed shouldEqual translate(source(newCode))
+  }
+
+  "Module cache" should "ignore corrupted cache files" in {
+    val code = "Any.foo = { 1 }\n@foo [1]"
+    cache.getOrTranslate(source(code), translate)
+    Files.write(cache.cacheFile.toPath, Array[Byte](1, 2, 3))
+    val result = cache.getOrTranslate(source(code), translate)
+
+    translations shouldEqual 2
+    result shouldEqual translate(source(code))
+  }
+
+  "Module cache" should "not deserialize classes foreign to modules" in {
+    val code = "Any.foo = { 1 }\n@foo [1]"
+    cache.getOrTranslate(source(code), translate)
+    val contents  = Files.readAllBytes(cache.cacheFile.toPath)
+    val streamMagic = Seq(0xAC, 0xED, 0x00, 0x05).map(_.toByte)
+    val headerEnd   = contents.indexOfSlice(streamMagic)
+    val payload   = new ByteArrayOutputStream()
+    val output    = new ObjectOutputStream(payload)
+    output.writeObject(new java.util.ArrayList[String]())
+    output.close()
+    Files.write(
+      cache.cacheFile.toPath,
+      contents.take(headerEnd) ++ payload.toByteArray
+    )
+    val result = cache.getOrTranslate(source(code), translate)
+
+    translations shouldEqual 2
+    result shouldEqual translate(source(code))
+  }
+}
@@ -0,0 +1,29 @@
+package org.enso.compiler.analyse
+
+import org.enso.interpreter.{AstApply, AstUnnamedCallArg, EnsoParser}
+import org.scalatest.{FlatSpec, Matchers}
+
+class StrictnessAnalysisTest extends FlatSpec with Matchers {
+  def strictness(call: String): List[Boolean] = {
+    val apply = new EnsoParser().parseEnsoInline(call).asInstanceOf[AstApply]
+    apply.args.map {
+      case AstUnnamedCallArg(value) =>
+        StrictnessAnalysis.canEvaluateEagerly(value)
+      case _ => false
+    }
+  }
+
+  "Arithmetic over number literals" should "be evaluated eagerly" in {
+    val call = "@f [(2 * 3) + 1.5, 7 % 3, 1 / 2.0]"
+    strictness(call) shouldEqual List(true, true, true)
+  }
+
+  "Arithmetic over variables" should "be passed as a thunk" in {
+    strictness("@sumTo [acc + i, i - 1]") shouldEqual List(false, false)
+  }
+
+  "Arithmetic that may fail" should "be passed as a thunk" in {
+    val call = "@f [1 / 0, 3 % (2 - 2), 1 + (@g [1])]"
+    strictness(call) shouldEqual List(false, false, false)
+  }
+}
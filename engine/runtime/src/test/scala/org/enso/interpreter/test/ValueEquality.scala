@@ -6,8 +6,9 @@ import org.scalactic.Equality
 trait ValueEquality {
   implicit val valueEquality: Equality[Value] = (a: Value, b: Any) =>
     b match {
-      case _: Long => a.isNumber && a.fitsInLong && a.asLong == b
-      case _: Int  => a.isNumber && a.fitsInInt && a.asInt == b
-      case _       => false
+      case _: Long   => a.isNumber && a.fitsInLong && a.asLong == b
+      case _: Int    => a.isNumber && a.fitsInInt && a.asInt == b
+      case _: Double => a.isNumber && a.fitsInDouble && a.asDouble == b
+      case _         => false
     }
 }
@@ -95,4 +95,57 @@ class ConstructorsTest extends InterpreterTest {
       """.stripMargin
     evalOld(testCode) shouldEqual 55
   }
+
+  "Constructor fields" should "keep their values when the layout changes" in {
+    val testCode =
+      """
+        |type Pair a b;
+        |type Triple a b c;
+        |type Quad a b c d;
+        |
+        |Unit.sumPair = { |p| match p < Pair ~ { |a, b| a + b }; > }
+        |Unit.sumTriple = { |t| match t < Triple ~ { |a, b, c| a + (b + c) }; > }
+        |Unit.sumQuad = { |q| match q < Quad ~ { |a, b, c, d| (a + b) + (c + d) }; > }
+        |
+        |@{
+        |  first = @Pair [1, 2];
+        |  second = @Pair [@Triple [3, 4, 5], @Quad [6, 7, 8, 9]];
+        |  third = @Pair [10, 11];
+        |  inner = match second <
+        |    Pair ~ { |t, q| (@sumTriple [@Unit, t]) + (@sumQuad [@Unit, q]) };
+        |  >;
+        |  (@sumPair [@Unit, first]) + (inner + (@sumPair [@Unit, third]))
+        |}
+      """.stripMargin
+    evalOld(testCode) shouldEqual 66
+  }
+
+  "Pattern matching" should "select the right branch among many constructors" in {
+    val testCode =
+      """
+        |type A;
+        |type B;
+        |type C;
+        |type D;
+        |
+        |Unit.score = { |x| match x <
+        |  A ~ { 1 };
+        |  B ~ { 10 };
+        |  C ~ { 100 };
+        |  { 1000 };
+        |>}
+        |
+        |Unit.scoreDynamic = { |x, cons| match x <
+        |  cons ~ { 1 };
+        |  { 0 };
+        |>}
+        |
+        |@{
+        |  static = (@score [@Unit, @A]) + ((@score [@Unit, @C]) + (@score [@Unit, @D]));
+        |  dynamic = (@scoreDynamic [@Unit, @B, B]) + (@scoreDynamic [@Unit, @B, C]);
+        |  static + dynamic
+        |}
+      """.stripMargin
+    evalOld(testCode) shouldEqual 1102
+  }
 }
@@ -53,6 +53,21 @@ class EvalTest extends InterpreterTest {
     evalOld(code) shouldEqual 4
   }
 
+  "Debug.eval" should "see the current iteration of a self tail recursive function" in {
+    val code =
+      """
+        |@{
+        |  sum = { |acc, i|
+        |    x = @eval [@Debug, "i"];
+        |    @ifZero [i, acc, @sum [acc + x, i - 1]]
+        |  };
+        |  getArg = { |y| @eval [@Debug, "y"] };
+        |  (@sum [0, 3]) + (@getArg [10])
+        |}
+        |""".stripMargin
+    evalOld(code) shouldEqual 16
+  }
+
   "Debug.eval" should "work in a recursive setting" in {
     val code =
       """
@@ -104,4 +104,97 @@ class FunctionArgumentsTest extends InterpreterTest {
 
     eval(code) shouldEqual 0
   }
+
+  "Self tail calls" should "not share variables between iterations" in {
+    val code =
+      """
+        |@{
+        |  build = { |i, acc| @ifZero [i, acc, @build [i - 1, @Cons [{ i }, acc]]] };
+        |  sum = { |list| match list <
+        |    Cons ~ { |h, t| (@h) + (@sum [t]) };
+        |    Nil ~ { 0 };
+        |  >};
+        |  @sum [@build [5, @Nil]]
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 15
+  }
+
+  "Nested lambdas" should "read variables captured from all enclosing scopes" in {
+    val code =
+      """
+        |@{
+        |  a = 1;
+        |  outer = { |b|
+        |    middle = { |c|
+        |      inner = { |d, n| @ifZero [n, a + (b + (c + d)), @inner [d + 1, n - 1]] };
+        |      @inner [0, 2]
+        |    };
+        |    @middle [10]
+        |  };
+        |  id = { |f| f };
+        |  countdown = @id [{ |n| @ifZero [n, @outer [100], @countdown [n - 1]] }];
+        |  @countdown [3]
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 113
+  }
+
+  "Local functions using no enclosing variables" should "work across executions of their definitions" in {
+    val code =
+      """
+        |{ |n|
+        |  sumTo = { |acc, i| @ifZero [i, acc, @sumTo [acc + i, i - 1]] };
+        |  @sumTo [0, n]
+        |}
+        |""".stripMargin
+
+    val fun = evalOld(code)
+    fun.call(10) shouldEqual 55
+    fun.call(100) shouldEqual 5050
+  }
+
+  "Function arguments" should "be allowed to change their type between calls" in {
+    val code =
+      """
+        |@{
+        |  twice = { |x| y = x; @Cons [y, y] };
+        |  first = { |pair| match pair < Cons ~ { |h, t| h }; > };
+        |  a = @first [@twice [1]];
+        |  b = @first [@twice [0.5]];
+        |  c = @first [@twice [@Nil]];
+        |  @println [@IO, c];
+        |  d = @first [@twice [2]];
+        |  (a + b) + d
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 3.5
+    consumeOut shouldEqual List("Nil<>")
+  }
+
+  "Local functions using no enclosing variables" should "be shared between executions of their definitions" in {
+    val code =
+      """
+        |@{
+        |  makeSum = { |x|
+        |    sumTo = { |acc, i| @ifZero [i, acc, @sumTo [acc + i, i - 1]] };
+        |    sumTo
+        |  };
+        |  makeAdd = { |x|
+        |    add = { |y| x + y };
+        |    add
+        |  };
+        |  sums = @insert [@empty [@Map], @makeSum [1], 1];
+        |  adds = @insert [@empty [@Map], @makeAdd [1], 1];
+        |  @println [@IO, @lookup [adds, @makeAdd [1], 0]];
+        |  @lookup [sums, @makeSum [2], 0]
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 1
+    consumeOut shouldEqual List("0")
+  }
 }
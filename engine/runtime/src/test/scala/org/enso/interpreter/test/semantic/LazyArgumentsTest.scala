@@ -1,6 +1,11 @@
 package org.enso.interpreter.test.semantic
 
-import org.enso.interpreter.test.InterpreterTest
+import java.io.{ByteArrayOutputStream, StringReader}
+
+import org.enso.interpreter.Constants
+import org.enso.interpreter.runtime.RuntimeOptions
+import org.enso.interpreter.test.{InterpreterException, InterpreterTest}
+import org.graalvm.polyglot.{Context, Source}
 
 class LazyArgumentsTest extends InterpreterTest {
   val subject = "Lazy arguments"
@@ -77,4 +82,62 @@ class LazyArgumentsTest extends InterpreterTest {
     evalOld(code)
     consumeOut shouldEqual List("1","4")
   }
+
+  subject should "accept values that do not need to be suspended" in {
+    val code =
+      """
+        |@{
+        |  y = 5;
+        |  suspId = { |$x| $x };
+        |  f = { |$g| @($g) [1] };
+        |  (@ifZero [0, y, 2]) + ((@suspId [y]) + (@f [{ |z| z + y }]))
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 16
+  }
+
+  subject should "not fail when unforced arithmetic is not on numbers" in {
+    val code =
+      """
+        |@{
+        |  ignore = { |$x| 1 };
+        |  foo = @Unit;
+        |  @ignore [foo + 1]
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 1
+  }
+
+  subject should "be evaluated at most once when memoization is enabled" in {
+    val code =
+      """
+        |@{
+        |  noisy = { |y| @println [@IO, y]; y };
+        |  twice = { |$x| ($x) + ($x) };
+        |  @twice [@noisy [5]]
+        |}
+        |""".stripMargin
+    val memoOutput = new ByteArrayOutputStream()
+    val memoCtx = Context
+      .newBuilder(Constants.LANGUAGE_ID)
+      .allowExperimentalOptions(true)
+      .option(RuntimeOptions.getMemoizeThunksOption, "true")
+      .out(memoOutput)
+      .build()
+    val source = Source
+      .newBuilder(Constants.LANGUAGE_ID, new StringReader(code), "test")
+      .mimeType(Constants.Debug.MIME_TYPE)
+      .build()
+
+    try {
+      InterpreterException.rethrowPolyglot(memoCtx.eval(source)) shouldEqual 10
+      memoOutput.toString.linesIterator.toList shouldEqual List("5")
+    } finally {
+      memoCtx.close()
+    }
+    evalOld(code) shouldEqual 10
+    consumeOut shouldEqual List("5", "5")
+  }
 }
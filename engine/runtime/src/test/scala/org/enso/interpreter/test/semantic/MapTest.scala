@@ -0,0 +1,70 @@
+package org.enso.interpreter.test.semantic
+
+import org.enso.interpreter.test.InterpreterTest
+
+class MapTest extends InterpreterTest {
+  "Maps" should "support insertion, lookup and removal" in {
+    val code =
+      """
+        |@{
+        |  m = @insert [@insert [@insert [@empty [@Map], 1, 10], 2, 20], 1, 30];
+        |  @println [@IO, @size [m]];
+        |  @println [@IO, @lookup [m, 1, 0]];
+        |  @println [@IO, @lookup [@remove [m, 1], 1, 0]];
+        |  @size [@remove [m, 3]]
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 2
+    consumeOut shouldEqual List("2", "30", "0")
+  }
+
+  "Maps" should "be persistent" in {
+    val code =
+      """
+        |@{
+        |  m = @insert [@empty [@Map], 1, 10];
+        |  m2 = @insert [m, 2, 20];
+        |  m3 = @remove [m2, 1];
+        |  @println [@IO, @lookup [m, 2, 0]];
+        |  @println [@IO, @lookup [m2, 1, 0]];
+        |  @size [m3]
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 1
+    consumeOut shouldEqual List("0", "10")
+  }
+
+  "Maps" should "compare text and atom keys structurally" in {
+    val code =
+      """
+        |@{
+        |  m = @insert [@empty [@Map], @Cons [1, @Nil], "list"];
+        |  m2 = @insert [m, @concat ["ab", "c"], "text"];
+        |  @println [@IO, @lookup [m2, @Cons [1, @Nil], "none"]];
+        |  @println [@IO, @lookup [m2, @Cons [2, @Nil], "none"]];
+        |  @lookup [m2, "abc", "none"]
+        |}
+        |""".stripMargin
+
+    evalOld(code).asString shouldEqual "text"
+    consumeOut shouldEqual List("list", "none")
+  }
+
+  "Maps" should "support folding over their entries" in {
+    val code =
+      """
+        |{ |n|
+        |  vec = @new [@Vector, n, { |i| i }];
+        |  counts = @fold [vec, @empty [@Map], { |m, x|
+        |    key = x % 3;
+        |    @insert [m, key, (@lookup [m, key, 0]) + 1]
+        |  }];
+        |  @fold [counts, 0, { |acc, k, v| acc + (k * v) }]
+        |}
+        |""".stripMargin
+
+    evalOld(code).call(10) shouldEqual 9
+  }
+}
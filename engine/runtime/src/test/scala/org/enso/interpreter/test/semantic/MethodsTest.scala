@@ -137,6 +137,111 @@ class MethodsTest extends InterpreterTest {
     consumeOut shouldEqual List("1", "2", "3", "0", "0", "0")
   }
 
+  "Methods defined for a constructor" should "take precedence over methods defined on Any" in {
+    val code =
+      """
+        |type Foo;
+        |type Bar;
+        |
+        |Any.describe = { 1 }
+        |Foo.describe = { 10 }
+        |
+        |(@describe [@Foo]) + ((@describe [@Bar]) + (@describe [5]))
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 12
+  }
+
+  "Method calls" should "dispatch correctly on more constructors than fit the inline cache" in {
+    val names    = ('A' to 'L').map(_.toString)
+    val typeDefs = names.map(name => s"type $name;")
+    val methodDefs = names.zipWithIndex.map {
+      case (name, idx) => s"$name.value = { ${idx + 1} }"
+    }
+    val sum = names
+      .map(name => s"@getValue [@Unit, @$name]")
+      .reduceRight((call, rest) => s"($call) + ($rest)")
+    val code =
+      (typeDefs ++ methodDefs :+ "Unit.getValue = { |x| @value [x] }" :+ sum)
+        .mkString("\n", "\n\n", "\n")
+
+    evalOld(code) shouldEqual 78
+  }
+
+  "Methods named like control flow builtins" should "be called for other types" in {
+    val code =
+      """
+        |type Foo;
+        |
+        |Foo.ifZero = { |ifTrue, ifFalse| ifFalse }
+        |
+        |@{
+        |  foo = @Foo;
+        |  (@ifZero [0, 10, 20]) + (@ifZero [foo, 1, 2])
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 12
+  }
+
+  "Methods named like control flow builtins" should "evaluate their target once" in {
+    val code =
+      """
+        |type Foo;
+        |
+        |Foo.ifZero = { |ifTrue, ifFalse| ifFalse }
+        |Unit.makeFoo = { @put [@State, (@get [@State]) + 1]; @Foo }
+        |
+        |@{
+        |  @put [@State, 0];
+        |  res = @ifZero [@makeFoo [@Unit], 1, 2];
+        |  res + ((@get [@State]) * 10)
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 12
+  }
+
+  "Methods named like control flow builtins" should "see the variables visible at the call" in {
+    val code =
+      """
+        |type Foo;
+        |
+        |Foo.ifZero = { |ifTrue, ifFalse| ifFalse }
+        |
+        |@{
+        |  x = 10;
+        |  foo = @Foo;
+        |  f = { |y| r = @ifZero [y, 1, x]; x = 5; r + x };
+        |  @f [foo]
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 15
+  }
+
+  "Method bodies" should "only be processed when the method is first called" in {
+    val code =
+      """
+        |Any.broken = { { |x, x| x } }
+        |Any.fine = { 5 }
+        |
+        |@fine [@Unit]
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 5
+
+    val callingCode =
+      """
+        |Any.broken = { { |x, x| x } }
+        |
+        |@broken [@Unit]
+        |""".stripMargin
+
+    the[InterpreterException] thrownBy evalOld(callingCode) should have message
+    "Variable x was already defined in this scope."
+  }
+
   "Test" should "test test" in {
     pending
 //    val code =
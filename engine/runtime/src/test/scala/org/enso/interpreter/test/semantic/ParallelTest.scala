@@ -0,0 +1,57 @@
+package org.enso.interpreter.test.semantic
+
+import org.enso.interpreter.test.{InterpreterException, InterpreterTest}
+
+class ParallelTest extends InterpreterTest {
+  "Parallel map" should "keep the results in the order of the elements" in {
+    val code =
+      """
+        |Cons.sum = { match this < Cons ~ { |h, t| h + (@sum [t]) }; > }
+        |Nil.sum = { 0 }
+        |
+        |{ |n|
+        |  vec = @new [@Vector, n, { |i| @Cons [i, @Cons [1, @Nil]] }];
+        |  sums = @map [@Parallel, vec, { |list| @sum [list] }];
+        |  @println [@IO, @slice [sums, 0, 4]];
+        |  @fold [sums, 0, { |acc, x| acc + x }]
+        |}
+        |""".stripMargin
+
+    evalOld(code).call(1000) shouldEqual 500500
+    consumeOut shouldEqual List("[1, 2, 3, 4]")
+  }
+
+  "Parallel computations" should "not change the state of their caller" in {
+    val code =
+      """
+        |@{
+        |  @put [@State, 0];
+        |  results = @both [
+        |    @Parallel,
+        |    @{ @put [@State, 1]; @get [@State] },
+        |    @{ @put [@State, 2]; @get [@State] }
+        |  ];
+        |  @println [@IO, @at [results, 0]];
+        |  @println [@IO, @at [results, 1]];
+        |  @get [@State]
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 0
+    consumeOut shouldEqual List("1", "2")
+  }
+
+  "Panics in parallel computations" should "be rethrown to the caller" in {
+    val code =
+      """
+        |@{
+        |  vec = @new [@Vector, 10, { |i| i }];
+        |  @map [@Parallel, vec, { |x| @ifZero [x - 7, @throw [@Panic, x], x] }]
+        |}
+        |""".stripMargin
+
+    val exception = the[InterpreterException] thrownBy evalOld(code)
+    exception.isGuestException shouldEqual true
+    exception.getGuestObject.asLong shouldEqual 7
+  }
+}
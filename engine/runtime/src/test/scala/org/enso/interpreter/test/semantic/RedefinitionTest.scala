@@ -0,0 +1,91 @@
+package org.enso.interpreter.test.semantic
+
+import java.io.{File, StringReader}
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.attribute.FileTime
+
+import org.enso.interpreter.Constants
+import org.enso.interpreter.runtime.RuntimeOptions
+import org.enso.interpreter.test.{InterpreterException, ValueEquality}
+import org.enso.pkg.Package
+import org.graalvm.polyglot.{Context, Source, Value}
+import org.scalatest.{BeforeAndAfterEach, FlatSpec, Matchers}
+
+import scala.collection.JavaConverters._
+
+class RedefinitionTest
+    extends FlatSpec
+    with Matchers
+    with ValueEquality
+    with BeforeAndAfterEach {
+  var pkgDir: File     = _
+  var context: Context = _
+
+  override def beforeEach(): Unit = {
+    pkgDir = Files.createTempDirectory("enso-redefinition").toFile
+    Package.create(pkgDir, "Test")
+    context = Context
+      .newBuilder(Constants.LANGUAGE_ID)
+      .allowExperimentalOptions(true)
+      .allowAllAccess(true)
+      .option(RuntimeOptions.getPackagesPathOption, pkgDir.getAbsolutePath)
+      .build()
+  }
+
+  override def afterEach(): Unit = {
+    context.close()
+    val paths = Files.walk(pkgDir.toPath).iterator.asScala.toList
+    paths.reverse.foreach(Files.delete)
+  }
+
+  def writeLib(code: String, modificationTime: Long): Unit = {
+    val file = new File(new File(pkgDir, Package.sourceDirName), "Lib.enso")
+    file.getParentFile.mkdirs()
+    Files.write(file.toPath, code.getBytes(StandardCharsets.UTF_8))
+    Files.setLastModifiedTime(
+      file.toPath,
+      FileTime.fromMillis(modificationTime)
+    )
+  }
+
+  def eval(code: String): Value = {
+    val source = Source
+      .newBuilder(Constants.LANGUAGE_ID, new StringReader(code), "test")
+      .mimeType(Constants.Debug.MIME_TYPE)
+      .build()
+    InterpreterException.rethrowPolyglot(context.eval(source))
+  }
+
+  def call(function: Value, argument: Long): Value =
+    InterpreterException.rethrowPolyglot(function.execute(Long.box(argument)))
+
+  "Callers of an edited module" should "see its new and removed definitions" in {
+    val originalLib =
+      """
+        |type X a;
+        |X.foo = { 1 }
+        |X.bar = { 2 }
+        |0
+        |""".stripMargin
+    val editedLib =
+      """
+        |type X a;
+        |X.foo = { 3 }
+        |0
+        |""".stripMargin
+    writeLib(originalLib, 1000000)
+
+    val callFoo = eval("import Test.Lib\n\n{ |x| @foo [@X [x]] }")
+    val callBar = eval("import Test.Lib\n\n{ |x| @bar [@X [x]] }")
+    call(callFoo, 0) shouldEqual 1
+    call(callBar, 0) shouldEqual 2
+
+    writeLib(editedLib, 2000000)
+    eval("import Test.Lib\n\n0")
+
+    call(callFoo, 0) shouldEqual 3
+    val exception = the[InterpreterException] thrownBy call(callBar, 0)
+    exception.getMessage shouldEqual "Object X does not define method bar."
+  }
+}
@@ -23,6 +23,72 @@ class SimpleArithmeticTest extends InterpreterTest {
     eval("2 * 2 / 2") shouldEqual 2
   }
 
+  "Decimal arithmetic" should "work with integers and decimals mixed" in {
+    val code =
+      """
+        |@{
+        |  half = { |x| x / 2 };
+        |  a = @half [7.0];
+        |  b = @half [7];
+        |  (a + b) * 1.5
+        |}
+        |""".stripMargin
+    evalOld(code) shouldEqual 9.75
+  }
+
+  "Decimal values" should "be matched by the fallback clause" in {
+    val code =
+      """
+        |@{
+        |  x = 0.5;
+        |  match x <
+        |    Cons ~ { |h, t| 0 };
+        |    { x * 3 };
+        |  >
+        |}
+        |""".stripMargin
+    evalOld(code) shouldEqual 1.5
+  }
+
+  "Integer arithmetic" should "not overflow" in {
+    val code =
+      """
+        |@{
+        |  max = 9223372036854775807;
+        |  big = (max + 1) * 4;
+        |  @println [@IO, big];
+        |  @println [@IO, big / 8];
+        |  (big / 4) - max
+        |}
+        |""".stripMargin
+    evalOld(code) shouldEqual 1
+    consumeOut shouldEqual List("36893488147419103232", "4611686018427387904")
+  }
+
+  "Integer arithmetic" should "stay integral after mixing with decimals" in {
+    val code =
+      """
+        |@{
+        |  add = { |a, b| a + b };
+        |  @println [@IO, @add [1, 2.0]];
+        |  @println [@IO, @add [2.0, 1]];
+        |  @println [@IO, @add [1, 2]];
+        |  0
+        |}
+        |""".stripMargin
+    evalOld(code) shouldEqual 0
+    consumeOut shouldEqual List("3.0", "3.0", "3")
+  }
+
+  "Big integers" should "mix with decimals in arithmetic" in {
+    val big = "(9223372036854775807 + 1)"
+    evalOld(s"$big + 0.5") shouldEqual 9.223372036854775808e18
+    evalOld(s"0.5 - $big") shouldEqual -9.223372036854775808e18
+    evalOld(s"$big * 0.5") shouldEqual 4.611686018427387904e18
+    evalOld(s"1.0 / $big") shouldEqual 1.0842021724855044e-19
+    evalOld(s"$big % 10.0") shouldEqual 8.0
+  }
+
   "Things" should "work" in {
 //    val code =
 //      """
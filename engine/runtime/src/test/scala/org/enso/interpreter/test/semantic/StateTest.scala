@@ -66,6 +66,21 @@ class StateTest extends InterpreterTest {
     eval(code) shouldEqual 55
   }
 
+  "State" should "keep the changes of earlier iterations of self tail calls" in {
+    val code =
+      """
+        |Unit.bump = { |i| @ifZero [i, 0, @put [@State, (@get [@State]) + 1]] }
+        |
+        |@{
+        |  @put [@State, 0];
+        |  loop = { |i| @bump [@Unit, i]; @ifZero [i, 0, @loop [i - 1]] };
+        |  @loop [5];
+        |  @get [@State]
+        |}
+        |""".stripMargin
+    evalOld(code) shouldEqual 5
+  }
+
   "State" should "be initialized to a Unit by default" in {
     val code =
       """
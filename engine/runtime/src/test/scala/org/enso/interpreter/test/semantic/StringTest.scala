@@ -12,4 +12,31 @@ class StringTest extends InterpreterTest {
     noException shouldBe thrownBy(evalOld(code))
     consumeOut shouldEqual List("hello world!")
   }
+
+  "Text" should "support concatenation, slicing and length" in {
+    val code =
+      """
+        |{ |n|
+        |  build = { |acc, i| @ifZero [i, acc, @build [@concat [acc, "abc"], i - 1]] };
+        |  text = @build ["", n];
+        |  @println [@IO, @length [text]];
+        |  @slice [text, 4, 10]
+        |}
+        |""".stripMargin
+
+    evalOld(code).call(10000).asString shouldEqual "bcabca"
+    consumeOut shouldEqual List("30000")
+  }
+
+  "Text" should "be iterable by characters" in {
+    val code =
+      """
+        |@{
+        |  reverse = { |text| @fold [@characters [text], "", { |acc, c| @concat [c, acc] }] };
+        |  @reverse ["hello"]
+        |}
+        |""".stripMargin
+
+    evalOld(code).asString shouldEqual "olleh"
+  }
 }
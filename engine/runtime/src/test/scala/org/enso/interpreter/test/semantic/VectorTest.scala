@@ -0,0 +1,86 @@
+package org.enso.interpreter.test.semantic
+
+import org.enso.interpreter.test.{InterpreterException, InterpreterTest}
+
+class VectorTest extends InterpreterTest {
+  "Vectors" should "support creation, indexing and slicing" in {
+    val code =
+      """
+        |@{
+        |  vec = @new [@Vector, 10, { |i| i * i }];
+        |  @println [@IO, @slice [vec, 2, 5]];
+        |  @println [@IO, @length [@slice [vec, 5, 5]]];
+        |  @at [@slice [vec, 3, 8], 2]
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 25
+    consumeOut shouldEqual List("[4, 9, 16]", "0")
+  }
+
+  "Vectors" should "support map and fold" in {
+    val code =
+      """
+        |{ |n|
+        |  vec = @new [@Vector, n, { |i| i + 1 }];
+        |  halves = @map [vec, { |x| x / 2.0 }];
+        |  @fold [halves, 0, { |acc, x| acc + x }]
+        |}
+        |""".stripMargin
+
+    evalOld(code).call(100) shouldEqual 2525.0
+  }
+
+  "Vectors" should "keep the values of mixed kinds of elements" in {
+    val code =
+      """
+        |@{
+        |  vec = @new [@Vector, 4, { |i| @ifZero [i % 2, i, @Cons [i, @Nil]] }];
+        |  @println [@IO, vec];
+        |  @println [@IO, @new [@Vector, 4, { |i| @ifZero [i % 2, i, i + 0.5] }]];
+        |  0
+        |}
+        |""".stripMargin
+
+    evalOld(code)
+    consumeOut shouldEqual List(
+      "[0, Cons<1, Nil<>>, 2, Cons<3, Nil<>>]",
+      "[0, 1.5, 2, 3.5]"
+    )
+  }
+
+  "Vector operations" should "thread the state through their function calls" in {
+    val code =
+      """
+        |@{
+        |  @put [@State, 0];
+        |  vec = @new [@Vector, 5, { |i| @put [@State, (@get [@State]) + i]; i }];
+        |  @fold [vec, 0, { |acc, x| @put [@State, (@get [@State]) * 2]; acc }];
+        |  @get [@State]
+        |}
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 320
+  }
+
+  "Vectors" should "support user-defined methods" in {
+    val code =
+      """
+        |Vector.sum = { @fold [this, 0, { |acc, x| acc + x }] }
+        |
+        |@{ @sum [@new [@Vector, 4, { |i| i }]] }
+        |""".stripMargin
+
+    evalOld(code) shouldEqual 6
+  }
+
+  "Indexing a vector out of its bounds" should "throw an exception" in {
+    val code =
+      """
+        |@{ @at [@new [@Vector, 3, { |i| i }], 3] }
+        |""".stripMargin
+
+    the[InterpreterException] thrownBy evalOld(code) should have message
+    "Index 3 is out of bounds for length 3."
+  }
+}